@@ -14,11 +14,13 @@ import mage.client.util.GameManager;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackType;
 import mage.remote.ActionData;
 import mage.remote.Session;
+import mage.remote.traffic.GameViewDiffDecoder;
 import mage.util.DebugUtil;
 import mage.view.*;
 import mage.view.ChatMessage.MessageType;
@@ -38,11 +40,13 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private final Map<ClientCallbackType, Integer> lastMessages;
     private final Map<UUID, GameClientMessage> firstGameData;
+    private final Map<UUID, GameViewDiffDecoder> gameViewDecoders; // game updates come as diffs to the prev view
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
         this.lastMessages = new HashMap<>();
         this.firstGameData = new HashMap<>();
+        this.gameViewDecoders = new HashMap<>();
         Arrays.stream(ClientCallbackType.values()).forEach(t -> this.lastMessages.put(t, 0));
     }
 
@@ -51,12 +55,35 @@ public class CallbackClientImpl implements CallbackClient {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        this.gameViewDecoders.clear();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
         callback.decompressData();
 
+        // game updates must be decoded in income order (each diff depends on the prev view)
+        switch (callback.getMethod()) {
+            case GAME_UPDATE: {
+                GameViewDiffDecoder decoder = gameViewDecoders.computeIfAbsent(callback.getObjectId(), k -> new GameViewDiffDecoder());
+                GameView gameView = decoder.decode(callback.getData());
+                if (gameView == null) {
+                    // outdated diff, ask server for full view
+                    if (decoder.pollResyncRequest()) {
+                        UUID gameId = callback.getObjectId();
+                        SwingUtilities.invokeLater(() -> SessionHandler.sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_VIEW, gameId, null));
+                    }
+                    return;
+                }
+                callback.setData(gameView, false);
+                break;
+            }
+            case GAME_OVER: {
+                gameViewDecoders.remove(callback.getObjectId());
+                break;
+            }
+        }
+
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
 
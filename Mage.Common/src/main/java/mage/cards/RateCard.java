@@ -17,6 +17,7 @@ import org.apache.log4j.Logger;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class responsible for reading ratings from resources and rating given cards.
@@ -28,10 +29,21 @@ public final class RateCard {
 
     public static final boolean PRELOAD_CARD_RATINGS_ON_STARTUP = false; // warning, rating and card classes preloading can cause lags for users with low memory
 
-    private static Map<String, Integer> baseRatings = new HashMap<>();
-    private static final Map<String, Integer> ratedCard = new HashMap<>();
-    private static final Map<String, Integer> ratedCardView = new HashMap<>(); // Rating is not exactly the same for CardView, so cached in a different map.
-    private static boolean isLoaded = false;
+    private static final Map<String, Integer> baseRatings = new ConcurrentHashMap<>();
+    // precomputed scores by card name, one score per allowed colors combination (see getColorsIndex)
+    // can be used by multiple draft bots at the same time, so must be thread safe
+    private static final Map<String, int[]> ratedCard = new ConcurrentHashMap<>();
+    private static final Map<String, int[]> ratedCardView = new ConcurrentHashMap<>(); // Rating is not exactly the same for CardView, so cached in a different map.
+    private static volatile boolean isLoaded = false;
+
+    private static final ColoredManaSymbol[] SCORE_COLORS = {
+            ColoredManaSymbol.W,
+            ColoredManaSymbol.U,
+            ColoredManaSymbol.B,
+            ColoredManaSymbol.R,
+            ColoredManaSymbol.G
+    };
+    private static final int SCORE_INDEX_ANY_COLORS = 1 << SCORE_COLORS.length; // score for null colors
 
     /**
      * Rating that is given for new cards.
@@ -65,6 +77,7 @@ public final class RateCard {
         for (Card card : cards) {
             RateCard.rateCard(card, null);
         }
+        log.info("Rated cards: " + ratedCard.size());
     }
 
     /**
@@ -89,20 +102,15 @@ public final class RateCard {
             return 0;
         }
 
-        String name = card.getName();
-        if (useCache && allowedColors == null && ratedCard.containsKey(name)) {
-            int rate = ratedCard.get(name);
-            return rate;
+        if (useCache) {
+            // same card name must have same rating, so all colors combinations can be calculated at once
+            int[] scores = ratedCard.computeIfAbsent(card.getName(), name -> prepareScores(card));
+            return scores[getColorsIndex(allowedColors)];
         }
 
         int typeMultiplier = typeMultiplier(card);
-        int score = getBaseCardScore(card) + 2 * typeMultiplier + getManaCostScore(card, allowedColors)
+        return getBaseCardScore(card) + 2 * typeMultiplier + getManaCostScore(card, allowedColors)
                 + 40 * isRemoval(card);
-
-        if (useCache && allowedColors == null)
-            ratedCard.put(name, score);
-
-        return score;
     }
 
     public static int rateCard(CardView cardview, List<ColoredManaSymbol> allowedColors, boolean useCache) {
@@ -110,20 +118,60 @@ public final class RateCard {
             return 0;
         }
 
-        String name = cardview.getName();
-        if (useCache && allowedColors == null && ratedCardView.containsKey(name)) {
-            int rate = ratedCardView.get(name);
-            return rate;
+        if (useCache) {
+            int[] scores = ratedCardView.computeIfAbsent(cardview.getName(), name -> prepareScores(cardview));
+            return scores[getColorsIndex(allowedColors)];
         }
 
         int typeMultiplier = typeMultiplier(cardview);
-        int score = getBaseCardScore(cardview) + 2 * typeMultiplier + getManaCostScore(cardview, allowedColors);
         // Cardview does not have enough info to know the card is a removal.
+        return getBaseCardScore(cardview) + 2 * typeMultiplier + getManaCostScore(cardview, allowedColors);
+    }
 
-        if (useCache && allowedColors == null)
-            ratedCardView.put(name, score);
+    private static int[] prepareScores(Card card) {
+        int score = getBaseCardScore(card) + 2 * typeMultiplier(card) + 40 * isRemoval(card);
+        return prepareScores(score, card.getName(), card.getManaValue(), card.getManaCostSymbols());
+    }
 
-        return score;
+    private static int[] prepareScores(CardView cardview) {
+        int score = getBaseCardScore(cardview) + 2 * typeMultiplier(cardview);
+        return prepareScores(score, cardview.getName(), cardview.getManaValue(), cardview.getManaCostSymbols());
+    }
+
+    private static int[] prepareScores(int score, String name, int manaValue, List<String> manaCostSymbols) {
+        int[] res = new int[SCORE_INDEX_ANY_COLORS + 1];
+        for (int colorsIndex = 0; colorsIndex < res.length; colorsIndex++) {
+            List<ColoredManaSymbol> allowedColors = null;
+            if (colorsIndex != SCORE_INDEX_ANY_COLORS) {
+                allowedColors = new ArrayList<>();
+                for (int i = 0; i < SCORE_COLORS.length; i++) {
+                    if ((colorsIndex & (1 << i)) != 0) {
+                        allowedColors.add(SCORE_COLORS[i]);
+                    }
+                }
+            }
+            res[colorsIndex] = score + getManaCostScore(name, manaValue, manaCostSymbols, allowedColors);
+        }
+        return res;
+    }
+
+    /**
+     * Index in precomputed scores, each allowed color is a bit (non W/U/B/R/G symbols are ignored by scores)
+     */
+    private static int getColorsIndex(List<ColoredManaSymbol> allowedColors) {
+        if (allowedColors == null) {
+            return SCORE_INDEX_ANY_COLORS;
+        }
+        int res = 0;
+        for (ColoredManaSymbol color : allowedColors) {
+            for (int i = 0; i < SCORE_COLORS.length; i++) {
+                if (SCORE_COLORS[i] == color) {
+                    res |= 1 << i;
+                    break;
+                }
+            }
+        }
+        return res;
     }
 
     protected static int typeMultiplier(Card card) {
@@ -278,23 +326,21 @@ public final class RateCard {
             newRating = DEFAULT_NOT_RATED_CARD_RATING;
         }
 
-        int oldRating = baseRatings.getOrDefault(name, 0);
-        if (oldRating != 0 && oldRating != newRating) {
-            //log.info("card have different rating by sets: " + card.getName() + " (" + oldRating + " <> " + newRating + ")");
-        }
-
-        if (oldRating != 0) {
-            return oldRating;
-        } else {
-            baseRatings.put(name, newRating);
-            return newRating;
-        }
+        // first rating wins (atomic for parallel usage)
+        return baseRatings.merge(name, newRating, (oldRating, rating) -> oldRating != 0 ? oldRating : rating);
     }
 
     /**
      * reads the list of sets that have ratings csv files and read each file
      */
-    public synchronized static void prepareAndLoadRatings() {
+    public static void prepareAndLoadRatings() {
+        if (isLoaded) {
+            return;
+        }
+        loadRatings();
+    }
+
+    private synchronized static void loadRatings() {
         if (isLoaded) {
             return;
         }
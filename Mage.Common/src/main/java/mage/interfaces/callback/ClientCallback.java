@@ -1,8 +1,10 @@
 package mage.interfaces.callback;
 
+import mage.remote.traffic.GameViewDiff;
 import mage.remote.traffic.ZippedObject;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
+import mage.view.GameView;
 
 import java.io.Serializable;
 import java.util.UUID;
@@ -26,6 +28,7 @@ public class ClientCallback implements Serializable {
     private Object data;
     private ClientCallbackMethod method;
     private int messageId;
+    private transient boolean fullGameView; // server side only: data contains full game view, so older game updates can be skipped
 
     public ClientCallback(ClientCallbackMethod method, UUID objectId) {
         this(method, objectId, null);
@@ -68,6 +71,8 @@ public class ClientCallback implements Serializable {
     }
 
     public void setData(Object data, boolean useCompress) {
+        this.fullGameView = data instanceof GameView
+                || (data instanceof GameViewDiff && ((GameViewDiff) data).isFull());
         if (!useCompress || data == null || data instanceof ZippedObject) {
             this.data = data;
         } else {
@@ -99,4 +104,8 @@ public class ClientCallback implements Serializable {
         return messageId;
     }
 
+    public boolean isFullGameView() {
+        return fullGameView;
+    }
+
 }
@@ -0,0 +1,57 @@
+package mage.remote.traffic;
+
+import java.io.Serializable;
+
+/**
+ * Network data for GAME_UPDATE: full game view or changes to the previous sent game view.
+ * <p>
+ * Game view keeps as serialized data, so changes are binary delta between serialized views
+ * (see {@link GameViewDiffEncoder} and {@link GameViewDiffDecoder})
+ */
+public class GameViewDiff implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int FULL_VIEW = -1;
+
+    static {
+        ZippedObjectImpl.registerNetworkClasses();
+    }
+
+    private final int sequence;
+    private final int baseSequence; // FULL_VIEW for full data
+    private final byte format;
+    private final byte[] data; // serialized view or delta to the base view
+
+    GameViewDiff(int sequence, int baseSequence, byte format, byte[] data) {
+        this.sequence = sequence;
+        this.baseSequence = baseSequence;
+        this.format = format;
+        this.data = data;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public int getBaseSequence() {
+        return baseSequence;
+    }
+
+    public boolean isFull() {
+        return baseSequence == FULL_VIEW;
+    }
+
+    byte getFormat() {
+        return format;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return (isFull() ? "full view " : "view diff " + baseSequence + " -> ") + sequence + ", " + data.length + " bytes";
+    }
+}
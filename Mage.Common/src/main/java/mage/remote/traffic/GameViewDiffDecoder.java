@@ -0,0 +1,85 @@
+package mage.remote.traffic;
+
+import mage.util.BinaryDelta;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+import mage.view.GameView;
+import org.apache.log4j.Logger;
+
+/**
+ * Client side: restores game views from {@link GameViewDiff} (one decoder per game).
+ * <p>
+ * Diff can be applied to the same base view only, so after miss/outdated messages all diffs
+ * will be ignored until next full view. Client must ask server for a full view on such miss
+ * (see {@link #pollResyncRequest()}), otherwise it will wait the next periodic full view.
+ */
+public class GameViewDiffDecoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDiffDecoder.class);
+
+    private byte[] lastData;
+    private int lastSequence;
+    private boolean waitingFullView; // base view lost, all diffs will be ignored
+    private boolean resyncRequest; // client must ask server for full view (one request per lost base)
+
+    /**
+     * @param data GAME_UPDATE's data: {@link GameViewDiff} or full {@link GameView}
+     * @return null on outdated or broken data (must wait next full view)
+     */
+    public synchronized GameView decode(Object data) {
+        if (data instanceof GameView) {
+            return (GameView) data;
+        }
+        if (!(data instanceof GameViewDiff)) {
+            return null;
+        }
+
+        GameViewDiff diff = (GameViewDiff) data;
+        byte[] viewData;
+        if (diff.isFull()) {
+            viewData = diff.getData();
+        } else if (lastData != null && diff.getBaseSequence() == lastSequence) {
+            viewData = BinaryDelta.patch(lastData, diff.getData());
+        } else {
+            logger.debug("Ignore game view diff " + diff.getBaseSequence() + " -> " + diff.getSequence()
+                    + ", last sequence " + (lastData == null ? "none" : lastSequence) + ", waiting full view");
+            lostBaseView();
+            return null;
+        }
+
+        try {
+            GameView gameView = (GameView) SerializationUtil.fromBytes(viewData, SerializationFormat.findById(diff.getFormat()), false, null);
+            lastData = viewData;
+            lastSequence = diff.getSequence();
+            waitingFullView = false;
+            return gameView;
+        } catch (Exception e) {
+            logger.error("Can't decode game view " + diff + ": " + e.getMessage(), e);
+            lastData = null;
+            lostBaseView();
+            return null;
+        }
+    }
+
+    private void lostBaseView() {
+        if (!waitingFullView) {
+            waitingFullView = true;
+            resyncRequest = true;
+        }
+    }
+
+    /**
+     * @return true if client must ask server for full game view (will be reset after call)
+     */
+    public synchronized boolean pollResyncRequest() {
+        boolean res = resyncRequest;
+        resyncRequest = false;
+        return res;
+    }
+
+    public synchronized void reset() {
+        lastData = null;
+        waitingFullView = false;
+        resyncRequest = false;
+    }
+}
@@ -0,0 +1,79 @@
+package mage.remote.traffic;
+
+import mage.util.BinaryDelta;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+import mage.view.GameView;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+
+/**
+ * Server side: keeps last sent game view and encodes new views as changes to it (one encoder per game session).
+ * <p>
+ * Full view will be sent on first update, after {@link #reset()} (e.g. on reconnect, dropped send or
+ * client's resync request) and periodically, so the client can restore data after miss/outdated messages.
+ * <p>
+ * Each encode uses the prev encoded view as base, so the caller must send results in the same order
+ * and must call {@link #reset()} if a result was not sent.
+ */
+public class GameViewDiffEncoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDiffEncoder.class);
+
+    private static final int FULL_VIEW_INTERVAL = 20; // max diffs between full views
+    private static final int FULL_VIEW_MIN_SIZE_PERCENT = 50; // send full view on too big changes
+
+    private byte[] lastData;
+    private SerializationFormat lastFormat;
+    private int lastSequence;
+    private int diffsCount;
+
+    /**
+     * @return {@link GameViewDiff} or original view on errors
+     */
+    public Object encode(GameView gameView) {
+        SerializationFormat format = SerializationFormat.getDefault();
+        try {
+            return encode(SerializationUtil.toBytes(gameView, format, false), format);
+        } catch (IOException e) {
+            logger.error("Can't encode game view: " + e.getMessage(), e);
+            reset();
+            return gameView;
+        }
+    }
+
+    /**
+     * Encode already serialized game view (e.g. same view for many sessions)
+     *
+     * @param data must be unchanged after call (it will be used as base for the next diff)
+     */
+    public synchronized GameViewDiff encode(byte[] data, SerializationFormat format) {
+        int sequence = lastSequence + 1;
+        GameViewDiff res = null;
+        if (lastData != null && lastFormat == format && diffsCount < FULL_VIEW_INTERVAL) {
+            byte[] delta = BinaryDelta.diff(lastData, lastData.length, data, data.length);
+            if (delta.length * 100L < (long) data.length * FULL_VIEW_MIN_SIZE_PERCENT) {
+                res = new GameViewDiff(sequence, lastSequence, format.getId(), delta);
+                diffsCount++;
+            }
+        }
+        if (res == null) {
+            res = new GameViewDiff(sequence, GameViewDiff.FULL_VIEW, format.getId(), data);
+            diffsCount = 0;
+        }
+
+        lastData = data;
+        lastFormat = format;
+        lastSequence = sequence;
+        return res;
+    }
+
+    /**
+     * Next update will be sent as full view
+     */
+    public synchronized void reset() {
+        lastData = null;
+        diffsCount = 0;
+    }
+}
@@ -1,10 +1,22 @@
 package mage.remote.traffic;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import mage.MageInt;
+import mage.ObjectColor;
+import mage.cards.ArtRect;
+import mage.cards.FrameStyle;
+import mage.constants.*;
+import mage.counters.Counters;
+import mage.players.PlayableObjectsList;
+import mage.players.PlayerType;
+import mage.players.net.UserData;
+import mage.players.net.UserSkipPrioritySteps;
+import mage.util.SubTypes;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationRegistry;
+import mage.util.serialization.SerializationUtil;
+import mage.view.*;
+
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -12,12 +24,42 @@ import java.util.zip.GZIPOutputStream;
 /**
  * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
+ * <p>
+ * Data format can be compact (default) or java serialization (compatibility mode), see {@link SerializationFormat}
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
+    static {
+        registerNetworkClasses();
+    }
+
+    /**
+     * Network data: most used classes for compact serialization (must be same on client and server)
+     */
+    static void registerNetworkClasses() {
+        SerializationRegistry.register(
+                // views
+                GameView.class, PlayerView.class, CardView.class, PermanentView.class, CardsView.class,
+                SimpleCardView.class, SimpleCardsView.class, StackAbilityView.class, AbilityView.class,
+                CounterView.class, ManaPoolView.class, CombatGroupView.class, ExileView.class, RevealedView.class,
+                LookedAtView.class, EmblemView.class, PlaneView.class, DungeonView.class, CommanderView.class,
+                GameClientMessage.class, GameViewDiff.class, ChatMessage.class, TableClientMessage.class, UserRequestMessage.class,
+                DraftView.class, DraftPickView.class, DraftClientMessage.class, DeckView.class,
+                TableView.class, SeatView.class, MatchView.class, UsersView.class, RoomUsersView.class,
+                ChatMessage.MessageColor.class, ChatMessage.MessageType.class, ChatMessage.SoundToPlay.class,
+                // game data
+                MageInt.class, ObjectColor.class, SubTypes.class, Counters.class, PlayableObjectsList.class,
+                UserData.class, UserSkipPrioritySteps.class,
+                CardType.class, SuperType.class, SubType.class, Rarity.class, Zone.class, PhaseStep.class,
+                TurnPhase.class, AbilityType.class, MageObjectType.class, PlayerAction.class, SkillLevel.class,
+                TableState.class, PlayerType.class, ArtRect.class, FrameStyle.class
+        );
+    }
+
     private byte[] data;
+    private byte format;
 
     public ZippedObjectImpl(T object) {
         zip(object);
@@ -25,12 +67,9 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
     public void zip(T object) {
         try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
-            oos.writeObject(object);
-            oos.close();
-            data = bos.toByteArray();
+            SerializationFormat serializationFormat = SerializationFormat.getDefault();
+            data = SerializationUtil.toBytes(object, serializationFormat, true);
+            format = serializationFormat.getId();
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -39,11 +78,8 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
     @SuppressWarnings("unchecked")
     public T unzip() {
         try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
-            Object o = ois.readObject();
-            return (T)o;
+            Object o = SerializationUtil.fromBytes(data, SerializationFormat.findById(format), true, null);
+            return (T) o;
         } catch (Exception e) {
             e.printStackTrace();
         }
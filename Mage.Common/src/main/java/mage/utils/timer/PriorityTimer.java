@@ -3,7 +3,9 @@ package mage.utils.timer;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.UUID;
-import mage.MageException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import mage.interfaces.Action;
 import org.apache.log4j.Logger;
 
@@ -24,6 +26,7 @@ public class PriorityTimer extends TimerTask {
     private int bufferCount = 0;
     private Action taskOnTick;
     private States state = States.NONE;
+    private volatile ScheduledFuture<?> scheduledFuture; // for shared timers only
 
     enum States {
         NONE,
@@ -39,13 +42,38 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTimeout = taskOnTimeout;
     }
 
+    /**
+     * Init with own timer thread (client side)
+     */
     public void init(UUID gameId) {
         state = States.INIT;
         Timer timer = new Timer("Priority Timer-" + gameId.toString(), false);
-        long delayMs = delay * (int) (1000L / delay);
+        long delayMs = getDelayMs();
         timer.scheduleAtFixedRate(this, delayMs, delayMs);
     }
 
+    /**
+     * Init with shared timer threads (server side, many games)
+     */
+    public void init(UUID gameId, ScheduledExecutorService timerExecutor) {
+        state = States.INIT;
+        long delayMs = getDelayMs();
+        scheduledFuture = timerExecutor.scheduleAtFixedRate(this, delayMs, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private long getDelayMs() {
+        return delay * (int) (1000L / delay);
+    }
+
+    @Override
+    public boolean cancel() {
+        ScheduledFuture<?> future = scheduledFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
+        return super.cancel();
+    }
+
     public void start() {
         if (state == States.NONE) {
             throw new IllegalStateException("Timer should have been initialized first");
@@ -94,21 +122,22 @@ public class PriorityTimer extends TimerTask {
 
     @Override
     public void run() {
-        if (state == States.RUNNING) {
-            // Count down buffer time first
-            if (bufferCount > 0) {
-                bufferCount--;
-            } else {
-                count--;
-            }
+        // shared timer threads cancel the task on any error without logs (player's clock freezes), so catch it here
+        try {
+            if (state == States.RUNNING) {
+                // Count down buffer time first
+                if (bufferCount > 0) {
+                    bufferCount--;
+                } else {
+                    count--;
+                }
 
-            if (taskOnTick != null) {
-                try {
+                if (taskOnTick != null) {
                     taskOnTick.execute();
-                } catch (MageException e) {
-                    throw new RuntimeException(e);
                 }
             }
+        } catch (Exception e) {
+            logger.error("Priority timer: tick error - " + e.getMessage(), e);
         }
         if (logger.isDebugEnabled()) {
             logger.debug("Count is: " + count);
@@ -118,8 +147,8 @@ public class PriorityTimer extends TimerTask {
             cancel();
             try {
                 taskOnTimeout.execute();
-            } catch (MageException e) {
-                throw new RuntimeException(e);
+            } catch (Exception e) {
+                logger.error("Priority timer: timeout error - " + e.getMessage(), e);
             }
         }
     }
@@ -15,14 +15,18 @@ public class RoomUsersView implements Serializable {
     private final int numberActiveGames;
     private final int numberGameThreads;
     private final int numberMaxGames;
+    private final int usedMemoryMb; // server's heap
+    private final int maxMemoryMb;
 
     private final List<UsersView> usersView;
 
-    public RoomUsersView(List<UsersView> usersView, int numberActiveGames, int numberGameThreads, int numberMaxGames) {
+    public RoomUsersView(List<UsersView> usersView, int numberActiveGames, int numberGameThreads, int numberMaxGames, int usedMemoryMb, int maxMemoryMb) {
 
         this.numberActiveGames = numberActiveGames;
         this.numberGameThreads = numberGameThreads;
         this.numberMaxGames = numberMaxGames;
+        this.usedMemoryMb = usedMemoryMb;
+        this.maxMemoryMb = maxMemoryMb;
         
         this.usersView = usersView;
     }
@@ -39,6 +43,14 @@ public class RoomUsersView implements Serializable {
         return numberMaxGames;
     }
 
+    public int getUsedMemoryMb() {
+        return usedMemoryMb;
+    }
+
+    public int getMaxMemoryMb() {
+        return maxMemoryMb;
+    }
+
     public List<UsersView> getUsersView() {
         return usersView;
     }
@@ -65,6 +65,21 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 thread.setName("AI-SIM-" + thread.getId());
                 return thread;
             });
+
+    // parallel search: root actions of the AI's search calculates in diff threads (one shared pool for all AI players),
+    // all calcs of the same search use same nodes limit and stops on timeout
+    private static final boolean COMPUTER_ENABLE_PARALLEL_ROOT_SEARCH = true;
+    private static final ExecutorService threadPoolRootSearch = new ForkJoinPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("AI-SIM-ROOT-" + thread.getId());
+                return thread;
+            },
+            null,
+            false
+    );
+
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThink;
@@ -222,7 +237,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
         // Condition to stop deeper simulation
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -330,7 +345,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -402,7 +417,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -440,6 +455,9 @@ public class ComputerPlayer6 extends ComputerPlayer {
             // AI thinks too long
             logger.info("ai simulating - timed out");
             task.cancel(true);
+            if (root != null) {
+                root.stopSearch();
+            }
         } catch (ExecutionException e) {
             // game error
             logger.error("AI simulation catch game error: " + e, e);
@@ -484,6 +502,37 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 logger.info(String.format("-> #%d (%s)", i + 1, allActions.get(i)));
             }
         }
+        // parallel search: all root actions will be calculated at the same time (with full alpha-beta window
+        // and own nodes counter), best action selection below is the same as for one by one search:
+        // - nodes of each action will be counted in the same order, so the search stops at the same action;
+        // - if one by one search can't finish the action due nodes limit then it will be calculated again by one thread
+        List<SimulationNode2> parallelNodes = null;
+        List<Future<Integer>> parallelScores = null;
+        if (COMPUTER_ENABLE_PARALLEL_ROOT_SEARCH
+                && depth == maxDepth
+                && allActions.size() > 1) {
+            // all root copies must be done before parallel calcs start
+            int nodesBefore = node.getCount();
+            parallelNodes = new ArrayList<>(allActions.size());
+            for (Ability action : allActions) {
+                SimulationNode2 newNode = simulateAction(node, game, currentPlayer, action, depth);
+                if (newNode != null) {
+                    newNode.useOwnCounter();
+                }
+                parallelNodes.add(newNode);
+            }
+            node.addCount(nodesBefore - node.getCount()); // action nodes will be counted in the actions order
+
+            parallelScores = new ArrayList<>(allActions.size());
+            for (int i = 0; i < allActions.size(); i++) {
+                Ability action = allActions.get(i);
+                SimulationNode2 newNode = parallelNodes.get(i);
+                parallelScores.add(newNode == null ? null : threadPoolRootSearch.submit(
+                        () -> calcActionScore(newNode, action, depth, Integer.MIN_VALUE, Integer.MAX_VALUE))
+                );
+            }
+        }
+
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
         for (Ability action : allActions) {
@@ -494,32 +543,39 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
                 break;
             }
-            Game sim = game.createSimulationForAI();
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
-                    continue;
-                }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
+            SimulationNode2 newNode;
+            Integer parallelScore = null;
+            if (parallelNodes != null) {
+                newNode = parallelNodes.get(actionNumber - 1);
+                if (newNode != null) {
+                    parallelScore = waitActionScore(node, parallelScores.get(actionNumber - 1));
+                    if (parallelScore == null) {
+                        logger.info("Sim Prio [" + depth + "] -- interrupted");
+                        break;
+                    }
+                    int actionNodes = 1 + newNode.getCount();
+                    if (node.getCount() + actionNodes <= maxNodes) {
+                        // one by one search would calculate it fully too
+                        node.addCount(actionNodes);
+                    } else {
+                        // nodes limit reached inside the action, so continue by one thread (same as one by one search)
+                        logger.debug("Sim Prio [" + depth + "] -- nodes limit, continue without parallel search");
+                        stopParallelSearch(parallelNodes, parallelScores);
+                        parallelNodes = null;
+                        parallelScores = null;
+                        parallelScore = null;
+                        newNode = simulateAction(node, game, currentPlayer, action, depth);
+                    }
                 }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
+            } else {
+                newNode = simulateAction(node, game, currentPlayer, action, depth);
+            }
+            if (newNode != null) {
                 int actionScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
-                    // no more next actions, it's a final score
-                    actionScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+                if (parallelScore != null) {
+                    actionScore = parallelScore;
                 } else {
-                    // resolve current action and calc all next actions to find best score (return max possible score)
-                    actionScore = addActions(newNode, depth - 1, alpha, beta);
+                    actionScore = calcActionScore(newNode, action, depth, alpha, beta);
                 }
                 logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + actionScore + "> - (" + action + ") ");
 
@@ -621,7 +677,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
@@ -629,7 +685,13 @@ public class ComputerPlayer6 extends ComputerPlayer {
         } // end of for (allActions)
 
         if (depth == maxDepth) {
-            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] -- End for Max Depth  -- Nodes calculated: " + node.getCount());
+        }
+        if (parallelScores != null
+                && parallelScores.stream().filter(Objects::nonNull).anyMatch(task -> !task.isDone())) {
+            // stop not used calcs (e.g. after win/lose break)
+            parallelScores.stream().filter(Objects::nonNull).forEach(task -> task.cancel(false));
+            parallelNodes.stream().filter(Objects::nonNull).forEach(SimulationNode2::stopSearch);
         }
         if (bestNode != null) {
             node.children.clear();
@@ -648,6 +710,89 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
     }
 
+    /**
+     * Make a new game node with activated action
+     *
+     * @return null on unusable action
+     */
+    private SimulationNode2 simulateAction(SimulationNode2 node, Game game, SimulatedPlayer2 currentPlayer, Ability action, int depth) {
+        Game sim = game.createSimulationForAI();
+        if (action instanceof StaticAbility //for MorphAbility, etc
+                || !sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(game);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
+        sim.checkStateAndTriggered();
+        return newNode;
+    }
+
+    private int calcActionScore(SimulationNode2 newNode, Ability action, int depth, int alpha, int beta) {
+        if (action instanceof PassAbility && newNode.getGame().getStack().isEmpty()) {
+            // no more next actions, it's a final score
+            return GameStateEvaluator2.evaluate(this.getId(), newNode.getGame()).getTotalScore();
+        } else {
+            // resolve current action and calc all next actions to find best score (return max possible score)
+            return addActions(newNode, depth - 1, alpha, beta);
+        }
+    }
+
+    /**
+     * Parallel search: wait root action's score
+     *
+     * @return null on interrupted search (timeout)
+     */
+    private Integer waitActionScore(SimulationNode2 node, Future<Integer> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException | CancellationException e) {
+            // timeout: stop all other parallel calcs of the search tree too
+            node.stopSearch();
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // game error, must be processed by main simulation thread
+            node.stopSearch();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Parallel simulation error: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Parallel search: stop all calcs and wait it, so the root game can be used by current thread again
+     */
+    private void stopParallelSearch(List<SimulationNode2> parallelNodes, List<Future<Integer>> parallelScores) {
+        parallelNodes.stream().filter(Objects::nonNull).forEach(SimulationNode2::stopSearch);
+        for (Future<Integer> task : parallelScores) {
+            if (task == null) {
+                continue;
+            }
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | CancellationException e) {
+                // result is not used
+            }
+        }
+    }
+
     private String printDiffScore(int score) {
         if (score >= 0) {
             return "+" + score;
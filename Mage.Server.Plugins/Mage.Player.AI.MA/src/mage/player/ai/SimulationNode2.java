@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.combat.Combat;
@@ -15,7 +16,12 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    private static final int STOPPED_SEARCH_NODES = Integer.MAX_VALUE / 2;
+
+    // nodes counter for the whole search tree (shared by all nodes of the tree)
+    protected AtomicInteger nodeCount;
+    // parallel search: counter of the whole search for subtrees with own counter (used for search stop only)
+    protected AtomicInteger searchCount;
 
     protected Game game;
     protected int gameValue;
@@ -34,8 +40,10 @@ public class SimulationNode2 implements Serializable {
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
+        this.nodeCount = parent == null ? new AtomicInteger() : parent.nodeCount;
+        this.searchCount = parent == null ? null : parent.searchCount;
         game.setCustomData(this);
-        nodeCount++;
+        this.nodeCount.incrementAndGet();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,12 +57,37 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    /**
+     * Nodes count of the whole search tree (or of the subtree with own counter)
+     */
+    public int getCount() {
+        if (searchCount != null && searchCount.get() >= STOPPED_SEARCH_NODES) {
+            return STOPPED_SEARCH_NODES;
+        }
+        return nodeCount.get();
+    }
+
+    /**
+     * Parallel search: count nodes of the subtree calculated by another thread
+     */
+    public void addCount(int nodes) {
+        nodeCount.addAndGet(nodes);
+    }
+
+    /**
+     * Parallel search: node's subtree will be calculated with own nodes counter (from 0),
+     * but the whole search stop will be used by subtree too
+     */
+    public void useOwnCounter() {
+        this.searchCount = this.nodeCount;
+        this.nodeCount = new AtomicInteger();
     }
 
-    public static int getCount() {
-        return nodeCount;
+    /**
+     * Stop whole search tree calculation (e.g. on timeout): all nodes limits will be reached
+     */
+    public void stopSearch() {
+        nodeCount.set(STOPPED_SEARCH_NODES);
     }
 
     public Game getGame() {
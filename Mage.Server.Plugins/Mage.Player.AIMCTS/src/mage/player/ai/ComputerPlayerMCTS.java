@@ -17,8 +17,10 @@ import org.apache.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -31,6 +33,16 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    private static final boolean USE_TREE_PARALLEL = true; // multiple threads: one shared tree instead tree per thread with merge
+
+    // one pool for all MCTS players (server wide limit for simulation threads)
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final ExecutorService threadPoolSimulations = Executors.newFixedThreadPool(POOL_SIZE, r -> {
+        Thread thread = new Thread(r);
+        thread.setName("AI-MCTS-" + thread.getId());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     protected transient MCTSNode root;
     protected int maxThinkTime;
@@ -41,7 +53,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
-        poolSize = Runtime.getRuntime().availableProcessors();
+        poolSize = POOL_SIZE;
     }
 
     protected ComputerPlayerMCTS(UUID id) {
@@ -160,8 +172,35 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         int thinkTime = calculateThinkTime(game, action);
 
         if (thinkTime > 0) {
-            if (USE_MULTIPLE_THREADS) {
-                ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+            if (USE_MULTIPLE_THREADS && USE_TREE_PARALLEL) {
+                long endTime = System.nanoTime() + thinkTime * 1000000000L;
+                List<MCTSTreeExecutor> tasks = new ArrayList<>();
+                for (int i = 0; i < poolSize; i++) {
+                    tasks.add(new MCTSTreeExecutor(root, playerId, endTime));
+                }
+
+                int simCount = 0;
+                try {
+                    // executors stop by itself on end time, timeout used for busy pool only
+                    for (Future<Integer> task : threadPoolSimulations.invokeAll(tasks, thinkTime + 1, TimeUnit.SECONDS)) {
+                        if (!task.isCancelled()) {
+                            simCount += task.get();
+                        }
+                    }
+                } catch (InterruptedException | RejectedExecutionException ex) {
+                    logger.warn("applyMCTS interrupted");
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    logger.error("applyMCTS simulation error: " + ex.getCause(), ex.getCause());
+                }
+                totalThinkTime += thinkTime;
+                totalSimulations += simCount;
+                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds"
+                        + " (" + simCount / thinkTime / poolSize + " per second per core) - nodes in tree: " + root.size());
+                logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime
+                        + " (" + totalSimulations / totalThinkTime / poolSize + " per core)");
+                MCTSNode.logHitMiss();
+            } else if (USE_MULTIPLE_THREADS) {
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
                     Game sim = createMCTSGame(game);
@@ -172,11 +211,10 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 }
 
                 try {
-                    pool.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
-                    pool.awaitTermination(1, TimeUnit.SECONDS);
-                    pool.shutdownNow();
+                    threadPoolSimulations.invokeAll(tasks, thinkTime + 1, TimeUnit.SECONDS);
                 } catch (InterruptedException | RejectedExecutionException ex) {
                     logger.warn("applyMCTS interrupted");
+                    Thread.currentThread().interrupt();
                 }
 
                 int simCount = 0;
@@ -188,8 +226,10 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 tasks.clear();
                 totalThinkTime += thinkTime;
                 totalSimulations += simCount;
-                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
-                logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
+                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds"
+                        + " (" + simCount / thinkTime / poolSize + " per second per core) - nodes in tree: " + root.size());
+                logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime
+                        + " (" + totalSimulations / totalThinkTime / poolSize + " per core)");
                 MCTSNode.logHitMiss();
             } else {
                 long startTime = System.nanoTime();
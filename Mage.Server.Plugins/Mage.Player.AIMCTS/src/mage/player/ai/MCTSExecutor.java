@@ -30,8 +30,10 @@ public class MCTSExecutor implements Callable<Boolean> {
         simCount = 0;
         MCTSNode current;
 
-
-        while (true) {
+        // executor can be used by shared pool, so it must stop by itself
+        long endTime = System.nanoTime() + thinkTime * 1000000000L;
+        while (System.nanoTime() < endTime
+                && !Thread.currentThread().isInterrupted()) {
             current = root;
 
             // Selection
@@ -62,6 +64,7 @@ public class MCTSExecutor implements Callable<Boolean> {
             // Backpropagation
             current.backpropagate(result);
         }
+        return true;
     }
 
     public MCTSNode getRoot() {
@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -33,10 +35,11 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    // tree can be used by multiple threads (tree-parallel search), so counters and children must be thread safe
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger wins = new AtomicInteger();
     private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    private final List<MCTSNode> children = new CopyOnWriteArrayList<>();
     private Ability action;
     private Game game;
     private Combat combat;
@@ -46,7 +49,7 @@ public class MCTSNode {
     private boolean terminal = false;
     private UUID targetPlayer;
 
-    private static int nodeCount;
+    private static final AtomicInteger nodeCount = new AtomicInteger();
 
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
@@ -55,7 +58,7 @@ public class MCTSNode {
         this.fullStateValue = game.getState().getValue(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
-        nodeCount = 1;
+        nodeCount.set(1);
 //        logger.info(this.stateValue);
     }    
 
@@ -68,7 +71,7 @@ public class MCTSNode {
         this.parent = parent;
         this.action = action;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -81,7 +84,7 @@ public class MCTSNode {
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -104,13 +107,16 @@ public class MCTSNode {
         if (children.size() == 1) {
             return children.get(0);
         }
+        int visits = this.visits.get();
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins) / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * RandomUtil.nextDouble();
@@ -122,7 +128,11 @@ public class MCTSNode {
         return bestChild;
     }
 
-    public void expand() {
+    public synchronized void expand() {
+        if (game == null) {
+            // already expanded by another thread
+            return;
+        }
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
@@ -131,9 +141,20 @@ public class MCTSNode {
         game = null;
     }
 
+    /**
+     * @return 1 - win, -1 - lose, 0 - no simulation (node already expanded by another thread)
+     */
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            // node's game can be used by another thread (copy or expand)
+            if (game == null) {
+                // tree-parallel search: another thread selected that leaf and expanded it, so the game is gone
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -151,12 +172,34 @@ public class MCTSNode {
         if (result == 0)
             return;
         if (result == 1)
-            wins++;
-        visits++;
+            wins.incrementAndGet();
+        visits.incrementAndGet();
         if (parent != null)
             parent.backpropagate(result);
     }
 
+    /**
+     * Tree-parallel search: count the node as visited and lost until the simulation's end,
+     * so other threads will select another nodes
+     */
+    public void addVirtualLoss() {
+        visits.incrementAndGet();
+    }
+
+    /**
+     * Tree-parallel search: backpropagate result for the path with virtual loss (visits already added)
+     */
+    public void backpropagateVirtual(int result) {
+        if (result == 0) {
+            // no simulation - remove virtual loss
+            visits.decrementAndGet();
+        } else if (result == 1) {
+            wins.incrementAndGet();
+        }
+        if (parent != null)
+            parent.backpropagateVirtual(result);
+    }
+
     public boolean isLeaf() {
         return children.isEmpty();
     }
@@ -169,25 +212,27 @@ public class MCTSNode {
         boolean bestIsPass = false;
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = nodeWins/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = nodeWins/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = nodeWins/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -220,7 +265,7 @@ public class MCTSNode {
     }
 
     public int getNodeCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
     public String getStateValue() {
@@ -228,13 +273,14 @@ public class MCTSNode {
     }
 
     public double getWinRatio() {
+        int visits = this.visits.get();
         if (visits > 0)
-            return wins/(visits * 1.0);
+            return wins.get()/(visits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return visits.get();
     }
 
     /**
@@ -322,8 +368,8 @@ public class MCTSNode {
             return;
         }
 
-        this.visits += merge.visits;
-        this.wins += merge.wins;
+        this.visits.addAndGet(merge.visits.get());
+        this.wins.addAndGet(merge.wins.get());
         int mismatchCount = 0;
         
         List<MCTSNode> mergeChildren = new ArrayList<>();
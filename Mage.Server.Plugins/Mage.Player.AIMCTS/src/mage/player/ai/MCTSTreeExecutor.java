@@ -0,0 +1,72 @@
+package mage.player.ai;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Tree-parallel search: all executors work with the same tree, virtual loss is used to spread
+ * threads over diff nodes
+ */
+public class MCTSTreeExecutor implements Callable<Integer> {
+
+    private final MCTSNode root;
+    private final UUID playerId;
+    private final long endTime; // nano time
+
+    public MCTSTreeExecutor(MCTSNode root, UUID playerId, long endTime) {
+        this.root = root;
+        this.playerId = playerId;
+        this.endTime = endTime;
+    }
+
+    /**
+     * @return simulations count
+     */
+    @Override
+    public Integer call() {
+        int simCount = 0;
+        MCTSNode current;
+        while (System.nanoTime() < endTime
+                && !Thread.currentThread().isInterrupted()) {
+            current = root;
+            current.addVirtualLoss();
+
+            // Selection
+            while (!current.isLeaf()) {
+                current = current.select(this.playerId);
+                current.addVirtualLoss();
+            }
+
+            int result;
+            if (!current.isTerminal()) {
+                // Expansion
+                current.expand();
+                if (current.isLeaf()) {
+                    // nothing to expand
+                    current.backpropagateVirtual(0);
+                    continue;
+                }
+
+                // only run simulations for nodes that have siblings
+                if (current.getNumChildren() > 1) {
+                    // Simulation
+                    current = current.select(this.playerId);
+                    current.addVirtualLoss();
+                    result = current.simulate(this.playerId);
+                    if (result != 0) {
+                        simCount++;
+                    }
+                } else {
+                    current = current.select(this.playerId);
+                    current.addVirtualLoss();
+                    result = 0;
+                }
+            } else {
+                result = current.isWinner(this.playerId) ? 1 : -1;
+            }
+            // Backpropagation
+            current.backpropagateVirtual(result);
+        }
+        return simCount;
+    }
+}
@@ -55,6 +55,8 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -89,13 +91,16 @@ public class HumanPlayer extends PlayerImpl {
     // * keep only latest income feedback (if user sends multiple clicks/choices)
     // * HumanPlayer contains "response" object for threads sync and data exchange
     // * so sync logic:
-    // * - GAME thread: open response for income command and wait (go to sleep by response.wait)
+    // * - GAME thread: open response for income command and wait (go to sleep by responseCondition.await)
     // * - CALL thread: on closed response - waiting open status of player's response object (if it's too long then cancel the answer)
-    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.notifyAll
+    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by responseCondition.signalAll
     // * - GAME thread: on nofify from response - check new answer value and process it (if it bad then repeat and wait the next one);
     private transient Boolean responseOpenedForAnswer = false; // GAME thread waiting new answer
     private transient long responseLastWaitingThreadId = 0;
     private final transient PlayerResponse response = new PlayerResponse();
+    // no synchronized blocks here: game can wait in virtual thread (synchronized pins carrier thread on waiting)
+    private final transient ReentrantLock responseLock = new ReentrantLock();
+    private final transient Condition responseCondition = responseLock.newCondition();
     private final int RESPONSE_WAITING_TIME_SECS = 30; // waiting time before cancel current response
     private final int RESPONSE_WAITING_CHECK_MS = 100; // timeout for open status check
 
@@ -254,11 +259,14 @@ public class HumanPlayer extends PlayerImpl {
                 sendPlayerAction(PlayerAction.PASS_PRIORITY_UNTIL_STACK_RESOLVED, game, null);
             }
             //waitResponseOpen(); // it's a macro action, no need it here?
-            synchronized (response) {
+            responseLock.lock();
+            try {
                 response.copyFrom(action);
-                response.notifyAll();
+                responseCondition.signalAll();
                 macroTriggeredSelectionFlag = false;
                 return true;
+            } finally {
+                responseLock.unlock();
             }
         }
         return false;
@@ -313,17 +321,18 @@ public class HumanPlayer extends PlayerImpl {
             response.clear();
             response.setActiveAction(game, DebugUtil.getMethodNameWithSource(2));
             game.resumeTimer(getTurnControlledBy());
-            responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
-                }
+            responseLock.lock();
+            try {
+                // open inside the lock, so CALL thread can't signal before waiting start
+                responseOpenedForAnswer = true;
+                responseCondition.await(); // start waiting a responseCondition.signalAll command from CALL thread (client answer)
+            } catch (InterruptedException ignore) {
+            } finally {
+                responseOpenedForAnswer = false;
+                responseLock.unlock();
+                game.pauseTimer(getTurnControlledBy());
             }
 
             // async command: concede by any player
@@ -2658,10 +2667,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setString(responseString);
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Got response string from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2670,11 +2682,14 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setManaType(manaType);
             response.setResponseManaPlayerId(manaTypePlayerId);
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Got response mana type from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2683,10 +2698,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setUUID(responseUUID);
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Got response UUID from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2695,10 +2713,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setBoolean(responseBoolean);
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Got response boolean from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2707,10 +2728,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setInteger(responseInteger);
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Got response integer from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2718,29 +2742,38 @@ public class HumanPlayer extends PlayerImpl {
     public void abort() {
         // abort must cancel any response and stop waiting immediately
         abort = true;
-        synchronized (response) {
-            response.notifyAll();
+        responseLock.lock();
+        try {
+            responseCondition.signalAll();
             logger.debug("Got cancel action from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void signalPlayerConcede() {
         // waitResponseOpen(); // concede is async event, will be processed on first priority
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setAsyncWantConcede();
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Set check concede for waiting player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
     @Override
     public void signalPlayerCheat() {
         // waitResponseOpen(); // cheat is async event, will be processed on first player's priority
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setAsyncWantCheat();
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Set cheat for waiting player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -2748,10 +2781,13 @@ public class HumanPlayer extends PlayerImpl {
     public void skip() {
         // waitResponseOpen(); //skip is direct event, no need to wait it
         // TODO: can be bugged and must be reworked, see wantConcede as example?!
-        synchronized (response) {
+        responseLock.lock();
+        try {
             response.setInteger(0);
-            response.notifyAll();
+            responseCondition.signalAll();
             logger.debug("Got skip action from player: " + getId());
+        } finally {
+            responseLock.unlock();
         }
     }
 
@@ -14,7 +14,7 @@ import java.util.UUID;
  * - one response object per user;
  * - support multiple data types;
  * - waiting and writing response on diff threads;
- * - start by response.wait (game thread) and end by response.notifyAll (network/call thread)
+ * - start by responseCondition.await (game thread) and end by responseCondition.signalAll (network/call thread)
  * - user's request can income in diff order, so only one latest response allowed (except async commands like concede and cheat)
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
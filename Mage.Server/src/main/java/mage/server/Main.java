@@ -1,5 +1,6 @@
 package mage.server;
 
+import mage.cards.CardImpl;
 import mage.cards.ExpansionSet;
 import mage.cards.RateCard;
 import mage.cards.Sets;
@@ -245,6 +246,7 @@ public final class Main {
 
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
+        logger.info("Config - virtual threads : " + (config.isUseVirtualGameThreads() ? "true" : "false"));
         logger.info("Config - max AI opponents: " + config.getMaxAiOpponents());
         logger.info("Config - min usr name le.: " + config.getMinUserNameLength());
         logger.info("Config - max usr name le.: " + config.getMaxUserNameLength());
@@ -282,6 +284,16 @@ public final class Main {
         connection.setHost(config.getServerAddress());
         connection.setPort(config.getPort());
         final ManagerFactory managerFactory = new MainManagerFactory(config);
+
+        // cards constructors preload for faster decks and boosters generation (non blocking)
+        if (CardImpl.USE_CACHED_CONSTRUCTORS) {
+            managerFactory.threadExecutor().getCallExecutor().execute(() -> {
+                long startTime = System.currentTimeMillis();
+                int amount = CardImpl.prepareCardConstructors();
+                logger.info(String.format("Cards constructors: %d prepared, %d ms", amount, System.currentTimeMillis() - startTime));
+            });
+        }
+
         try {
             // Parameter: serializationtype => jboss
             InvokerLocator serverLocator = new InvokerLocator(connection.getURI());
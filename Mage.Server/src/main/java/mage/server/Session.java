@@ -19,7 +19,6 @@ import org.jboss.remoting.callback.HandleCallbackException;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -71,10 +70,10 @@ public class Session {
     private final Date timeConnected;
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private volatile boolean valid = true;
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
+    private final SessionCallbackQueue callbackQueue; // game threads must not wait for client's connection
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -83,7 +82,7 @@ public class Session {
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
+        this.callbackQueue = new SessionCallbackQueue(managerFactory.threadExecutor().getCallbackExecutor(), this::sendCallback);
     }
 
     public String registerUser(String userName, String password, String email) {
@@ -427,27 +426,37 @@ public class Session {
     }
 
     /**
-     * Send event/command to the client
+     * Send event/command to the client (non blocking, see SessionCallbackQueue)
+     *
+     * @return false if callback was dropped (invalid session or too slow connection)
      */
-    public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
+    public boolean fireCallback(final ClientCallback call) {
+        if (!valid) {
+            return false;
+        }
+        if (!callbackQueue.add(call)) {
+            // too slow connection or freezed client
+            logger.warn("SESSION CALLBACK QUEUE OVERFLOW, possible connection problem - userId: " + userId + ", " + callbackQueue.getInfo());
+
+            // do not send data anymore (user must reconnect)
+            this.valid = false;
+            callbackQueue.clear();
+            managerFactory.sessionManager().disconnect(sessionId, LostConnection, true);
+            return false;
+        }
+        return true;
+    }
+
+    private void sendCallback(final ClientCallback call) {
+        if (!valid) {
+            return;
+        }
         try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
-                boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
-                        && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
-            }
-        } catch (InterruptedException ex) {
-            // already sending another command (connection problem?)
-            if (call.getMethod().equals(ClientCallbackMethod.GAME_INIT)
-                    || call.getMethod().equals(ClientCallbackMethod.START_GAME)) {
-                // it's ok use case, user has connection problem so can't send game init (see sendInfoAboutPlayersNotJoinedYetAndTryToFixIt)
-            } else {
-                logger.warn("SESSION LOCK, possible connection problem - fireCallback - userId: " + userId + " messageId: " + call.getMessageId(), ex);
-            }
+            call.setMessageId(messageId.incrementAndGet());
+            Callback callback = new Callback(call);
+            boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
+                    && call.getMethod().getType().canComeInAnyOrder();
+            callbackHandler.handleCallbackOneway(callback, sendAsync);
         } catch (HandleCallbackException ex) {
             // general error
             // can raise on server freeze or normal connection problem from a client side
@@ -456,20 +465,29 @@ public class Session {
 
             // do not send data anymore (user must reconnect)
             this.valid = false;
+            callbackQueue.clear();
             managerFactory.sessionManager().disconnect(sessionId, LostConnection, true);
         } catch (Throwable ex) {
             logger.error("SESSION CALLBACK UNKNOWN EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId(), ex);
 
             // do not send data anymore (user must reconnect)
             this.valid = false;
+            callbackQueue.clear();
             managerFactory.sessionManager().disconnect(sessionId, LostConnection, true);
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
-            }
         }
     }
 
+    /**
+     * Outbound callbacks stats (queue depth, coalesced game updates, send latency)
+     */
+    public String getCallbackQueueInfo() {
+        return callbackQueue.getInfo();
+    }
+
+    public static String getCallbackQueueServerInfo() {
+        return SessionCallbackQueue.getServerInfo();
+    }
+
     public UUID getUserId() {
         return userId;
     }
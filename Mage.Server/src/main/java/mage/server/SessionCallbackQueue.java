@@ -0,0 +1,177 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Network: outbound callbacks queue of the session, so game threads never wait for a client's connection.
+ * <p>
+ * Callbacks are sent one by one in same order by a shared executor (only one active task per session).
+ * Outdated game views will be skipped: new full view (GAME_INIT or full GAME_UPDATE) replaces
+ * waiting GAME_UPDATE of the same game. Diff updates are never skipped (each diff depends on previous one).
+ */
+class SessionCallbackQueue {
+
+    private static final Logger logger = Logger.getLogger(SessionCallbackQueue.class);
+
+    static final int MAX_QUEUE_SIZE = 1000; // too slow client, must be disconnected
+
+    // server stats for all sessions
+    private static final AtomicLong totalSent = new AtomicLong();
+    private static final AtomicLong totalCoalesced = new AtomicLong();
+    private static final AtomicLong totalSendTimeNanos = new AtomicLong();
+    private static final AtomicLong maxSendTimeNanos = new AtomicLong();
+    private static final AtomicLong maxQueueSize = new AtomicLong();
+
+    private final Executor executor;
+    private final Consumer<ClientCallback> sender;
+    private final ArrayDeque<QueuedCallback> queue = new ArrayDeque<>();
+    private boolean sending = false;
+
+    // session stats
+    private int sessionMaxQueueSize = 0;
+    private long sessionSent = 0;
+    private long sessionCoalesced = 0;
+    private long sessionSendTimeNanos = 0;
+
+    private static class QueuedCallback {
+
+        private final ClientCallback call;
+        private final long addTime = System.nanoTime();
+
+        private QueuedCallback(ClientCallback call) {
+            this.call = call;
+        }
+    }
+
+    SessionCallbackQueue(Executor executor, Consumer<ClientCallback> sender) {
+        this.executor = executor;
+        this.sender = sender;
+    }
+
+    /**
+     * Add callback to send, non blocking
+     *
+     * @return false on queue overflow (client can't receive data)
+     */
+    synchronized boolean add(ClientCallback call) {
+        int coalesced = 0;
+        if (call.isFullGameView()) {
+            Iterator<QueuedCallback> it = queue.iterator();
+            while (it.hasNext()) {
+                if (canReplace(it.next().call, call)) {
+                    it.remove();
+                    coalesced++;
+                }
+            }
+        }
+        if (coalesced > 0) {
+            sessionCoalesced += coalesced;
+            totalCoalesced.addAndGet(coalesced);
+        }
+
+        if (queue.size() >= MAX_QUEUE_SIZE) {
+            return false;
+        }
+        queue.add(new QueuedCallback(call));
+        sessionMaxQueueSize = Math.max(sessionMaxQueueSize, queue.size());
+        maxQueueSize.accumulateAndGet(queue.size(), Math::max);
+
+        if (!sending) {
+            sending = true;
+            try {
+                executor.execute(this::sendAll);
+            } catch (RejectedExecutionException e) {
+                // server shutdown
+                sending = false;
+                queue.clear();
+            }
+        }
+        return true;
+    }
+
+    private static boolean canReplace(ClientCallback oldCall, ClientCallback newCall) {
+        if (!Objects.equals(oldCall.getObjectId(), newCall.getObjectId())) {
+            return false;
+        }
+        switch (newCall.getMethod()) {
+            case GAME_INIT:
+                return oldCall.getMethod() == ClientCallbackMethod.GAME_INIT
+                        || oldCall.getMethod() == ClientCallbackMethod.GAME_UPDATE;
+            case GAME_UPDATE:
+                // client must get GAME_INIT before any updates, so keep it
+                return oldCall.getMethod() == ClientCallbackMethod.GAME_UPDATE;
+            default:
+                return false;
+        }
+    }
+
+    private void sendAll() {
+        while (true) {
+            QueuedCallback next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    sending = false;
+                    return;
+                }
+            }
+
+            try {
+                sender.accept(next.call);
+            } catch (Throwable e) {
+                logger.error("Can't send callback " + next.call.getMethod() + ": " + e, e);
+            }
+
+            long sendTime = System.nanoTime() - next.addTime;
+            synchronized (this) {
+                sessionSent++;
+                sessionSendTimeNanos += sendTime;
+            }
+            totalSent.incrementAndGet();
+            totalSendTimeNanos.addAndGet(sendTime);
+            maxSendTimeNanos.accumulateAndGet(sendTime, Math::max);
+        }
+    }
+
+    /**
+     * Remove all waiting callbacks (e.g. on disconnect)
+     */
+    synchronized void clear() {
+        queue.clear();
+    }
+
+    synchronized int size() {
+        return queue.size();
+    }
+
+    synchronized String getInfo() {
+        return String.format("queue %d (max %d), sent %d, coalesced %d, avg latency %d ms",
+                queue.size(),
+                sessionMaxQueueSize,
+                sessionSent,
+                sessionCoalesced,
+                sessionSent == 0 ? 0 : sessionSendTimeNanos / sessionSent / 1_000_000
+        );
+    }
+
+    static String getServerInfo() {
+        long sent = totalSent.get();
+        return String.format("Sessions callbacks: sent %d, coalesced %d, max queue %d, avg latency %d ms, max latency %d ms",
+                sent,
+                totalCoalesced.get(),
+                maxQueueSize.get(),
+                sent == 0 ? 0 : totalSendTimeNanos.get() / sent / 1_000_000,
+                maxSendTimeNanos.get() / 1_000_000
+        );
+    }
+}
@@ -213,5 +213,6 @@ public class SessionManagerImpl implements SessionManager {
     public void checkHealth() {
         //logger.info("Checking sessions...");
         // TODO: add lone sessions check and report (with lost user)
+        logger.info(Session.getCallbackQueueServerInfo());
     }
 }
@@ -406,7 +406,8 @@ public class TableManagerImpl implements TableManager {
             logger.debug(user.getId()
                     + " | " + formatter.format(user.getConnectionTime())
                     + " | " + sessionState
-                    + " | " + user.getName() + " (" + user.getUserState().toString() + " - " + user.getPingInfo() + ')');
+                    + " | " + user.getName() + " (" + user.getUserState().toString() + " - " + user.getPingInfo() + ')'
+                    + session.map(s -> " | callbacks: " + s.getCallbackQueueInfo()).orElse(""));
         }
         List<ChatSession> chatSessions = managerFactory.chatManager().getChatSessions();
         logger.debug("------- ChatSessions: " + chatSessions.size() + " ----------------------------------");
@@ -254,12 +254,16 @@ public class User {
         return " (online: " + connTime + "; seen: " + lastSecs + " sec ago)";
     }
 
-    public void fireCallback(final ClientCallback call) {
+    /**
+     * @return false if callback was dropped (e.g. disconnected user)
+     */
+    public boolean fireCallback(final ClientCallback call) {
         if (isConnected()) {
-            managerFactory.sessionManager().getSession(sessionId).ifPresent(session
-                    -> session.fireCallback(call)
-            );
+            return managerFactory.sessionManager().getSession(sessionId)
+                    .map(session -> session.fireCallback(call))
+                    .orElse(false);
         }
+        return false;
     }
 
     public void ccJoinedTable(final UUID roomId, final UUID tableId, boolean isTournament) {
@@ -53,11 +53,11 @@ public class GameController implements GameCallback {
     private final ExecutorService gameExecutor;
     private static final Logger logger = Logger.getLogger(GameController.class);
 
-    protected final ScheduledExecutorService joinWaitingExecutor = Executors.newSingleThreadScheduledExecutor();
+    private volatile ScheduledFuture<?> joinWaitingFuture;
 
     private ScheduledFuture<?> futureTimeout;
     private final ManagerFactory managerFactory;
-    protected final ScheduledExecutorService timeoutIdleExecutor;
+    protected final ScheduledExecutorService timerExecutor; // shared server timers (priority, joining, idle)
 
     private final ConcurrentMap<UUID, GameSessionPlayer> gameSessions = new ConcurrentHashMap<>();
     private final ReadWriteLock gameSessionsLock = new ReentrantReadWriteLock();
@@ -84,7 +84,7 @@ public class GameController implements GameCallback {
     public GameController(ManagerFactory managerFactory, Game game, ConcurrentMap<UUID, UUID> userPlayerMap, UUID tableId, UUID choosingPlayerId, GameOptions gameOptions) {
         this.managerFactory = managerFactory;
         gameExecutor = managerFactory.threadExecutor().getGameExecutor();
-        timeoutIdleExecutor = managerFactory.threadExecutor().getTimeoutIdleExecutor();
+        timerExecutor = managerFactory.threadExecutor().getTimerExecutor();
         gameSessionId = UUID.randomUUID();
         this.userPlayerMap = userPlayerMap;
         chatId = managerFactory.chatManager().createChatSession("Game " + game.getId());
@@ -101,6 +101,7 @@ public class GameController implements GameCallback {
 
     public void cleanUp() {
         cancelTimeout();
+        cancelJoinWaiting();
         for (PriorityTimer priorityTimer : timers.values()) {
             priorityTimer.cancel();
         }
@@ -238,13 +239,9 @@ public class GameController implements GameCallback {
                     }
                 }
         );
-        joinWaitingExecutor.scheduleAtFixedRate(() -> {
-            try {
-                sendInfoAboutPlayersNotJoinedYetAndTryToFixIt();
-            } catch (Exception ex) {
-                logger.fatal("Send info about player not joined yet:", ex);
-            }
-        }, GAME_TIMEOUTS_CHECK_JOINING_STATUS_EVERY_SECS, GAME_TIMEOUTS_CHECK_JOINING_STATUS_EVERY_SECS, TimeUnit.SECONDS);
+        joinWaitingFuture = timerExecutor.scheduleAtFixedRate(
+                () -> executeTimerTask("Send info about player not joined yet", this::sendInfoAboutPlayersNotJoinedYetAndTryToFixIt),
+                GAME_TIMEOUTS_CHECK_JOINING_STATUS_EVERY_SECS, GAME_TIMEOUTS_CHECK_JOINING_STATUS_EVERY_SECS, TimeUnit.SECONDS);
         checkJoinAndStart();
     }
 
@@ -264,18 +261,36 @@ public class GameController implements GameCallback {
         final UUID initPlayerId = playerId;
         long delayMs = 250L; // run each 250 ms
 
-        Action executeOnNoTimeLeft = () -> {
-            // TODO: buggy, must run in game thread, not in timer thread
+        Action executeOnNoTimeLeft = () -> executeTimerTask("Player timer timeout", () -> {
+            // TODO: buggy, must run in game thread, not in call thread
             game.timerTimeout(initPlayerId);
             logger.debug("Player has no time left to end the match: " + initPlayerId + ". Conceding.");
-        };
+        });
 
         PriorityTimer timer = new PriorityTimer(count, delayMs, executeOnNoTimeLeft);
-        timer.init(game.getId());
+        timer.init(game.getId(), timerExecutor);
         timers.put(playerId, timer);
         return timer;
     }
 
+    /**
+     * Timer threads are shared by all games (priority timers), so timer tasks must only start
+     * the real work in call threads (one slow or blocked game must not stop timers of other games)
+     */
+    private void executeTimerTask(String taskName, Runnable task) {
+        try {
+            managerFactory.threadExecutor().getCallExecutor().execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception ex) {
+                    logger.fatal(taskName + " error:", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            logger.error(taskName + " rejected: " + ex.getMessage());
+        }
+    }
+
     private UUID getPlayerId(UUID userId) {
         return userPlayerMap.get(userId);
     }
@@ -412,11 +427,18 @@ public class GameController implements GameCallback {
 
     private void checkJoinAndStart() {
         if (isAllJoined()) {
-            joinWaitingExecutor.shutdownNow();
+            cancelJoinWaiting();
             managerFactory.threadExecutor().getCallExecutor().execute(this::startGame);
         }
     }
 
+    private void cancelJoinWaiting() {
+        ScheduledFuture<?> future = joinWaitingFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
     private boolean isAllJoined() {
         for (Player player : game.getPlayers().values()) {
             if (!player.hasLeft()) {
@@ -635,6 +657,17 @@ public class GameController implements GameCallback {
                     viewDeckOrSideboard(getPlayerId(userId), userId, targetPlayerId, true);
                 }
                 break;
+            case CLIENT_REQUEST_FULL_GAME_VIEW: {
+                UUID playerId = getPlayerId(userId);
+                GameSessionWatcher gameSession = playerId == null ? null : gameSessions.get(playerId);
+                if (gameSession == null) {
+                    gameSession = watchers.get(userId);
+                }
+                if (gameSession != null) {
+                    gameSession.resync();
+                }
+                break;
+            }
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
@@ -804,8 +837,10 @@ public class GameController implements GameCallback {
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
+        // all watchers see same data, so build it once per update
+        SharedGameView watchersView = new SharedGameView(game);
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            gameWatcher.update(watchersView);
         }
     }
 
@@ -1056,8 +1091,8 @@ public class GameController implements GameCallback {
             return;
         }
         cancelTimeout();
-        futureTimeout = timeoutIdleExecutor.schedule(
-                () -> idleTimeout(playerId),
+        futureTimeout = timerExecutor.schedule(
+                () -> executeTimerTask("Player idle timeout", () -> idleTimeout(playerId)),
                 Main.isTestMode() ? 3600 : managerFactory.configSettings().getMaxSecondsIdle(),
                 TimeUnit.SECONDS
         );
@@ -37,7 +37,7 @@ public class GameReplay {
     }
 
     public void start() {
-        this.stateIndex = 0;
+        this.stateIndex = savedGame.getFirstIndex(); // oldest states can be removed by history limit
     }
 
     public GameState next() {
@@ -48,7 +48,7 @@ public class GameReplay {
     }
 
     public GameState previous() {
-        if (this.stateIndex > 0) {
+        if (this.stateIndex > savedGame.getFirstIndex()) {
             return savedGame.get(--stateIndex);
         }
         return null;
@@ -200,6 +200,12 @@ public class GameSessionPlayer extends GameSessionWatcher {
         return prepareGameView(game, playerId, userId);
     }
 
+    @Override
+    protected boolean hasPersonalGameView() {
+        // hand, controlled and playable objects
+        return true;
+    }
+
     /**
      * Prepare client-server data. Can be used in real games or in unit tests
      *
@@ -5,6 +5,7 @@ import mage.game.Table;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
+import mage.remote.traffic.GameViewDiffEncoder;
 import mage.server.User;
 import mage.server.managers.UserManager;
 import mage.view.GameClientMessage;
@@ -30,6 +31,7 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    private final GameViewDiffEncoder gameViewEncoder = new GameViewDiffEncoder(); // game updates as diffs to the last sent view
 
     public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
         this.userManager = userManager;
@@ -42,6 +44,8 @@ public class GameSessionWatcher {
         if (!killed) {
             Optional<User> user = userManager.getUser(userId);
             if (user.isPresent()) {
+                // new or reconnected client, so next update must be full
+                gameViewEncoder.reset();
                 user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
                 return true;
             }
@@ -50,10 +54,50 @@ public class GameSessionWatcher {
     }
 
     public void update() {
+        update(null);
+    }
+
+    /**
+     * @param sharedView public game view of the current update (can be null), will be used instead own view
+     *                   if the session hasn't personal data
+     */
+    public void update(SharedGameView sharedView) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            userManager.getUser(userId).ifPresent(user -> {
+                // diffs must be sent in encode order, and dropped diff breaks the client's base view
+                synchronized (gameViewEncoder) {
+                    if (!user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), encodeGameView(sharedView)))) {
+                        gameViewEncoder.reset();
+                    }
+                }
+            });
+        }
+
+    }
+
+    /**
+     * Client lost base view for diffs (e.g. after reconnect), so it asks for full view
+     */
+    public void resync() {
+        gameViewEncoder.reset();
+        update();
+    }
+
+    private Object encodeGameView(SharedGameView sharedView) {
+        if (sharedView != null && !hasPersonalGameView()) {
+            byte[] sharedData = sharedView.getData();
+            if (sharedData != null) {
+                return gameViewEncoder.encode(sharedData, sharedView.getFormat());
+            }
         }
+        return gameViewEncoder.encode(getGameView());
+    }
 
+    /**
+     * Personal data in game view, e.g. watched hands (such session can't use shared view)
+     */
+    protected boolean hasPersonalGameView() {
+        return game.getPlayers().values().stream().anyMatch(player -> player.hasUserPermissionToSeeHand(userId));
     }
 
     public void inform(final String message) {
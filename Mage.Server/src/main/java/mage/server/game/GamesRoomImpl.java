@@ -109,10 +109,15 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
         users.sort((one, two) -> one.getUserName().compareToIgnoreCase(two.getUserName()));
         List<RoomUsersView> roomUserInfo = new ArrayList<>();
+        int activeGames = managerFactory.gameManager().getNumberActiveGames();
+        int gameThreads = managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor());
+        Runtime runtime = Runtime.getRuntime();
         roomUserInfo.add(new RoomUsersView(users,
-                managerFactory.gameManager().getNumberActiveGames(),
-                managerFactory.threadExecutor().getActiveThreads(managerFactory.threadExecutor().getGameExecutor()),
-                managerFactory.configSettings().getMaxGameThreads()
+                activeGames,
+                gameThreads < 0 ? activeGames : gameThreads, // virtual threads have no pool
+                managerFactory.configSettings().getMaxGameThreads(),
+                (int) ((runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024)),
+                (int) (runtime.maxMemory() / (1024 * 1024))
         ));
         roomUsersView = roomUserInfo;
     }
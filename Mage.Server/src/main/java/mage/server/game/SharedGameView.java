@@ -0,0 +1,60 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+import mage.view.GameView;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+
+/**
+ * Public game view for one game update: built and serialized once, shared by all watchers without personal data
+ * (watchers see the same data, only watched hands are personal).
+ * <p>
+ * Lazy: nothing will be calculated for games without such watchers.
+ */
+public class SharedGameView {
+
+    private static final Logger logger = Logger.getLogger(SharedGameView.class);
+
+    private final Game game;
+    private GameView gameView;
+    private SerializationFormat format;
+    private byte[] data;
+    private boolean dataFailed = false;
+
+    public SharedGameView(Game game) {
+        this.game = game;
+    }
+
+    public synchronized GameView getGameView() {
+        if (gameView == null) {
+            // game view calculation can take some time and can be called from non-game thread,
+            // so use copy for thread save (protection from ConcurrentModificationException)
+            Game sourceGame = game.copy();
+            gameView = new GameView(sourceGame.getState(), sourceGame, null, null);
+        }
+        return gameView;
+    }
+
+    /**
+     * @return serialized game view or null on errors
+     */
+    public synchronized byte[] getData() {
+        if (data == null && !dataFailed) {
+            format = SerializationFormat.getDefault();
+            try {
+                data = SerializationUtil.toBytes(getGameView(), format, false);
+            } catch (IOException e) {
+                logger.error("Can't serialize shared game view: " + e.getMessage(), e);
+                dataFailed = true;
+            }
+        }
+        return data;
+    }
+
+    public synchronized SerializationFormat getFormat() {
+        return format;
+    }
+}
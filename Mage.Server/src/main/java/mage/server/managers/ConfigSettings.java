@@ -26,6 +26,8 @@ public interface ConfigSettings {
 
     int getMaxGameThreads();
 
+    boolean isUseVirtualGameThreads();
+
     int getMaxSecondsIdle();
 
     int getMinUserNameLength();
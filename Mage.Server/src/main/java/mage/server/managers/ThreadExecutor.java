@@ -20,12 +20,21 @@ public interface ThreadExecutor {
      */
     ExecutorService getCallExecutor();
 
+    /**
+     * Helper threads to send data to clients, one active task per session (example: game updates)
+     */
+    ExecutorService getCallbackExecutor();
+
     /**
      * Helper threads to execute async timers and time related tasks
      */
     ScheduledExecutorService getTimeoutExecutor();
 
-    ScheduledExecutorService getTimeoutIdleExecutor();
+    /**
+     * Shared timers for all games (example: priority timers, joining checks, idle timeouts),
+     * threads amount is constant and do not depend on games amount
+     */
+    ScheduledExecutorService getTimerExecutor();
 
     /**
      * Helper thread to execute inner server tasks
@@ -55,6 +55,10 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getMaxGameThreads().intValue();
     }
 
+    public boolean isUseVirtualGameThreads() {
+        return Boolean.TRUE.equals(config.getServer().isUseVirtualGameThreads());
+    }
+
     public int getMaxSecondsIdle() {
         return config.getServer().getMaxSecondsIdle().intValue();
     }
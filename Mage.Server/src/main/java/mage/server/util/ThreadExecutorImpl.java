@@ -15,9 +15,10 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     private static final Logger logger = Logger.getLogger(ThreadExecutorImpl.class);
 
     private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
+    private final ExecutorService callbackExecutor; // shareable threads to send data to clients (game threads must not wait for slow connections)
     private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
     private final ScheduledExecutorService timeoutExecutor;
-    private final ScheduledExecutorService timeoutIdleExecutor;
+    private final ScheduledExecutorService timerExecutor;
     private final ScheduledExecutorService serverHealthExecutor;
 
     /**
@@ -38,25 +39,54 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XMageThreadFactory("CALL"));
 
-        //gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+        callbackExecutor = new CachedThreadPoolWithException();
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XMageThreadFactory("CALLBACK"));
+
+        ExecutorService virtualGameExecutor = config.isUseVirtualGameThreads() ? createVirtualThreadsExecutor() : null;
+        if (virtualGameExecutor != null) {
+            // games mostly waiting for user's feedback, so virtual threads allow to run thousands games without limits
+            gameExecutor = virtualGameExecutor;
+            logger.info("Games will be started in virtual threads, max game threads limit is disabled");
+        } else {
+            //gameExecutor = Executors.newFixedThreadPool(config.getMaxGameThreads());
+            gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+            ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+        }
 
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT"));
 
-        timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT_IDLE"));
+        // timers must be light and fast, long tasks must be executed in other threads
+        timerExecutor = Executors.newScheduledThreadPool(4);
+        ((ScheduledThreadPoolExecutor) timerExecutor).setRemoveOnCancelPolicy(true); // priority timers can be cancelled many times per game
+        ((ThreadPoolExecutor) timerExecutor).setThreadFactory(new XMageThreadFactory("TIMER"));
 
         serverHealthExecutor = Executors.newSingleThreadScheduledExecutor(new XMageThreadFactory("HEALTH"));
     }
 
+    /**
+     * Virtual threads executor (java 21+), project can be compiled by older java versions, so use reflection
+     *
+     * @return null on unsupported java
+     */
+    public static ExecutorService createVirtualThreadsExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            logger.warn("Virtual threads are not supported by current java version " + System.getProperty("java.version") + ", will be used normal threads");
+            return null;
+        } catch (ReflectiveOperationException e) {
+            logger.error("Can't create virtual threads executor: " + e, e);
+            return null;
+        }
+    }
+
     static class CachedThreadPoolWithException extends ThreadPoolExecutor {
 
         CachedThreadPoolWithException() {
@@ -109,6 +139,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return callExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public ExecutorService getGameExecutor() {
         return gameExecutor;
@@ -120,8 +155,8 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     }
 
     @Override
-    public ScheduledExecutorService getTimeoutIdleExecutor() {
-        return timeoutIdleExecutor;
+    public ScheduledExecutorService getTimerExecutor() {
+        return timerExecutor;
     }
 
     @Override
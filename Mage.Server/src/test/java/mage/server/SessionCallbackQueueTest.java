@@ -0,0 +1,105 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.remote.traffic.GameViewDiffEncoder;
+import mage.util.serialization.SerializationFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionCallbackQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<ClientCallback> sent = new ArrayList<>();
+    private final SessionCallbackQueue queue = new SessionCallbackQueue(tasks::add, sent::add);
+
+    private final UUID gameId = UUID.randomUUID();
+    private final UUID otherGameId = UUID.randomUUID();
+    private final GameViewDiffEncoder encoder = new GameViewDiffEncoder();
+    private final byte[] viewData = new byte[1000];
+
+    private ClientCallback createUpdate(UUID objectId) {
+        viewData[0]++;
+        return new ClientCallback(ClientCallbackMethod.GAME_UPDATE, objectId, encoder.encode(viewData.clone(), SerializationFormat.getDefault()));
+    }
+
+    private ClientCallback createFullUpdate(UUID objectId) {
+        encoder.reset();
+        return createUpdate(objectId);
+    }
+
+    private void sendAll() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    @DisplayName("should send callbacks in same order by one task")
+    void sendInOrder() {
+        List<ClientCallback> calls = Arrays.asList(
+                new ClientCallback(ClientCallbackMethod.START_GAME, gameId),
+                new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId),
+                new ClientCallback(ClientCallbackMethod.GAME_OVER, gameId)
+        );
+        calls.forEach(queue::add);
+
+        assertThat(tasks).hasSize(1);
+        sendAll();
+        assertThat(sent).containsExactlyElementsOf(calls);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should replace waiting game updates by new full view")
+    void coalesceFullViews() {
+        ClientCallback init = new ClientCallback(ClientCallbackMethod.GAME_INIT, gameId);
+        ClientCallback full = createFullUpdate(gameId);
+        ClientCallback diff = createUpdate(gameId);
+        ClientCallback ask = new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId);
+        ClientCallback other = createFullUpdate(otherGameId);
+        ClientCallback newFull = createFullUpdate(gameId);
+        assertThat(full.isFullGameView()).isTrue();
+        assertThat(diff.isFullGameView()).isFalse();
+
+        Arrays.asList(init, full, diff, ask, other, newFull).forEach(queue::add);
+
+        sendAll();
+        assertThat(sent).containsExactly(init, ask, other, newFull);
+    }
+
+    @Test
+    @DisplayName("should keep diff updates (each diff depends on previous one)")
+    void keepDiffs() {
+        ClientCallback full = createFullUpdate(gameId);
+        ClientCallback diff1 = createUpdate(gameId);
+        ClientCallback diff2 = createUpdate(gameId);
+        Arrays.asList(full, diff1, diff2).forEach(queue::add);
+
+        sendAll();
+        assertThat(sent).containsExactly(full, diff1, diff2);
+        assertThat(queue.getInfo()).contains("sent 3, coalesced 0");
+    }
+
+    @Test
+    @DisplayName("should fail on too slow client")
+    void overflow() {
+        for (int i = 0; i < SessionCallbackQueue.MAX_QUEUE_SIZE; i++) {
+            assertThat(queue.add(new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId))).isTrue();
+        }
+        assertThat(queue.add(new ClientCallback(ClientCallbackMethod.GAME_ASK, gameId))).isFalse();
+
+        sendAll();
+        assertThat(sent.stream().map(ClientCallback::getMethod).distinct().collect(Collectors.toList()))
+                .containsExactly(ClientCallbackMethod.GAME_ASK);
+        assertThat(sent).hasSize(SessionCallbackQueue.MAX_QUEUE_SIZE);
+    }
+}
@@ -35,6 +35,7 @@ public class ConfigWrapperTest {
         public int numAcceptThreads;
         public int backlogSize;
         public int maxGameThreads;
+        public boolean useVirtualGameThreads;
         public int maxSecondsIdle;
         public int minUsernameLength;
         public int maxUsernameLength;
@@ -86,6 +87,7 @@ public class ConfigWrapperTest {
             server.setNumAcceptThreads(bi(numAcceptThreads));
             server.setBacklogSize(bi(backlogSize));
             server.setMaxGameThreads(bi(maxGameThreads));
+            server.setUseVirtualGameThreads(useVirtualGameThreads);
             server.setMaxSecondsIdle(bi(maxSecondsIdle));
             server.setMinUserNameLength(bi(minUsernameLength));
             server.setMaxUserNameLength(bi(maxUsernameLength));
@@ -163,6 +165,7 @@ public class ConfigWrapperTest {
                 testInt("number of accept threads", c -> c.numAcceptThreads = expectedPositiveInt, ConfigWrapper::getNumAcceptThreads),
                 testInt("backlog size", c -> c.backlogSize = expectedPositiveInt, ConfigWrapper::getBacklogSize),
                 testInt("max game threads", c -> c.maxGameThreads = expectedPositiveInt, ConfigWrapper::getMaxGameThreads),
+                testTrue("use virtual game threads", c -> c.useVirtualGameThreads = true, ConfigWrapper::isUseVirtualGameThreads),
                 testInt("max seconds idle", c -> c.maxSecondsIdle = expectedPositiveInt, ConfigWrapper::getMaxSecondsIdle),
                 testInt("min username length", c -> c.minUsernameLength = expectedPositiveInt, ConfigWrapper::getMinUserNameLength),
                 testInt("max username length", c -> c.maxUsernameLength = expectedPositiveInt, ConfigWrapper::getMaxUserNameLength),
@@ -0,0 +1,83 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.player.ai.ComputerPlayerMCTS;
+import mage.player.ai.MCTSNode;
+import mage.player.ai.MCTSPlayer;
+import mage.player.ai.MCTSTreeExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo AI: tree-parallel search must work with many threads on the same tree
+ * (e.g. one thread expands a leaf while another thread simulates it)
+ */
+public class MCTSTreeParallelTest extends CardTestPlayerBase {
+
+    private static final int THREADS = 8;
+    private static final int SEARCH_SECONDS = 3;
+
+    private static class MCTSRootMaker extends ComputerPlayerMCTS {
+
+        MCTSRootMaker(UUID playerId) {
+            super(playerId);
+        }
+
+        MCTSNode makeRoot(Game game) {
+            Game sim = createMCTSGame(game);
+            ((MCTSPlayer) sim.getPlayer(playerId)).setNextAction(MCTSPlayer.NextAction.PRIORITY);
+            return new MCTSNode(playerId, sim);
+        }
+    }
+
+    @Test
+    public void test_ManyWorkersOnSameTree() {
+        // short random games
+        setLife(playerA, 2);
+        setLife(playerB, 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 2);
+
+        runCode("parallel search", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            MCTSNode root = new MCTSRootMaker(player.getId()).makeRoot(game);
+            long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(SEARCH_SECONDS);
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<Integer>> tasks = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    tasks.add(executor.submit(new MCTSTreeExecutor(root, player.getId(), endTime)));
+                }
+                int simCount = 0;
+                for (Future<Integer> task : tasks) {
+                    // must raise workers errors
+                    simCount += task.get();
+                }
+                Assert.assertTrue("must simulate games", simCount > 0);
+                Assert.assertTrue("must expand tree", root.getNumChildren() > 0);
+                Assert.assertTrue("must visit tree", root.getVisits() > 0);
+            } catch (Exception e) {
+                throw new IllegalStateException("Parallel search failed: " + e.getMessage(), e);
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
@@ -4,6 +4,7 @@ import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.remote.Session;
+import mage.remote.traffic.GameViewDiffDecoder;
 import mage.view.*;
 import org.apache.log4j.Logger;
 import org.jsoup.Jsoup;
@@ -30,6 +31,7 @@ public class LoadCallbackClient implements CallbackClient {
     private volatile int controlCount;
 
     private GameView gameView;
+    private final GameViewDiffDecoder gameViewDecoder = new GameViewDiffDecoder();
 
     private final String logsPrefix;
     private final Boolean showLogsAsHtml; // original game logs in HTML, but it can be converted to txt for more readable console
@@ -169,8 +171,17 @@ public class LoadCallbackClient implements CallbackClient {
                 log.info(getLogStartInfo() + "game end info, " + this.gameResult);
                 break;
 
+            case GAME_UPDATE: {
+                GameView updatedView = gameViewDecoder.decode(callback.getData());
+                if (updatedView != null) {
+                    this.gameView = updatedView;
+                } else if (gameViewDecoder.pollResyncRequest()) {
+                    session.sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_VIEW, callback.getObjectId(), null);
+                }
+                break;
+            }
+
             // skip callbacks (no need to react)
-            case GAME_UPDATE:
             case JOINED_TABLE:
                 break;
 
@@ -534,6 +534,75 @@ public class LoadTest {
         }
     }
 
+    @Test
+    @Ignore
+    public void test_MultipleGames_MemoryUsage() {
+        // for load testing only: games amount per GB of server's memory (example: compare normal and virtual game threads)
+        // play multiple EMPTY games with lands only decks, so games are alive for a long time and mostly wait for users
+        // how-to use:
+        // * start server with -Xmx and useVirtualGameThreads="true" in config (java 21+) to run games without max game threads limit
+        // * server's memory contains garbage too, so run it few times and compare results
+
+        final int MAX_GAMES = 100; // games to run
+        final int MAX_WAITING_SECS = 5 * 60;
+
+        LoadPlayer monitor = new LoadPlayer("mon", "mon");
+        RoomUsersView serverBefore = getServerInfo(monitor);
+
+        // running
+        logger.info("starting " + MAX_GAMES + " games...");
+        ArrayList<LoadGame> gamesList = new ArrayList<>();
+        for (int i = 1; i <= MAX_GAMES; i++) {
+            LoadGame game = new LoadGame("game" + i, "m" + i);
+            gamesList.add(game);
+            game.gameStart();
+        }
+
+        // waiting all games
+        RoomUsersView serverAfter = serverBefore;
+        Instant startTime = Instant.now();
+        while (ChronoUnit.SECONDS.between(startTime, Instant.now()) < MAX_WAITING_SECS) {
+            serverAfter = getServerInfo(monitor);
+            if (serverAfter.getNumberActiveGames() - serverBefore.getNumberActiveGames() >= MAX_GAMES) {
+                break;
+            }
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+
+        // results
+        int games = serverAfter.getNumberActiveGames() - serverBefore.getNumberActiveGames();
+        int usedMemoryMb = serverAfter.getUsedMemoryMb() - serverBefore.getUsedMemoryMb();
+        logger.info(String.format("Server: %d active games, %d game threads, memory %d MB used by games (%d of %d MB total)",
+                games,
+                serverAfter.getNumberGameThreads(),
+                usedMemoryMb,
+                serverAfter.getUsedMemoryMb(),
+                serverAfter.getMaxMemoryMb()
+        ));
+        if (games > 0 && usedMemoryMb > 0) {
+            logger.info("Games per GB of heap: " + (games * 1024L / usedMemoryMb));
+        }
+
+        // stop all
+        gamesList.forEach(LoadGame::gameEnd);
+        gamesList.forEach(LoadGame::gameWaitToStop);
+        monitor.disconnect();
+
+        Assert.assertEquals("all games must be started (check max game threads limit)", MAX_GAMES, games);
+    }
+
+    private RoomUsersView getServerInfo(LoadPlayer player) {
+        try {
+            return player.session.getRoomUsers(player.roomID).iterator().next();
+        } catch (MageRemoteException e) {
+            throw new IllegalStateException("Can't get server info: " + e, e);
+        }
+    }
+
     private Connection createSimpleConnection(String username) {
         Connection con = new Connection();
         con.setUsername(username);
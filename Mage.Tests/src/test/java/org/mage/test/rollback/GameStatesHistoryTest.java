@@ -0,0 +1,121 @@
+package org.mage.test.rollback;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Saved states history must rebuild old (compacted) states without data loss
+ */
+public class GameStatesHistoryTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_OldStatesMustBeRebuilt() throws InterruptedException {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        final int STATES_COUNT = 100;
+        GameStates states = new GameStates();
+        for (int i = 0; i < STATES_COUNT; i++) {
+            // each state has own life total
+            currentGame.getPlayer(playerA.getId()).setLife(1000 + i, currentGame, null);
+            states.save(currentGame.getState());
+        }
+        Assert.assertEquals(STATES_COUNT, states.getSize());
+        states.waitCompaction(); // compact works in background
+        Assert.assertTrue("old states must be compacted", states.getCompactedDataSize() > 0);
+
+        // random access (replay)
+        for (int i = 0; i < STATES_COUNT; i++) {
+            GameState state = states.get(i);
+            Assert.assertNotNull("state " + i, state);
+            Assert.assertEquals("state " + i, 1000 + i, state.getPlayer(playerA.getId()).getLife());
+            Assert.assertEquals("state " + i, 5, state.getBattlefield().getAllPermanents().size());
+        }
+
+        // rollback to old state (undo)
+        GameState state = states.rollback(7);
+        Assert.assertNotNull(state);
+        Assert.assertEquals(8, states.getSize());
+        Assert.assertEquals(1000 + 7, state.getPlayer(playerA.getId()).getLife());
+
+        // history must work after rollback
+        currentGame.getPlayer(playerA.getId()).setLife(500, currentGame, null);
+        for (int i = 0; i < 30; i++) {
+            states.save(currentGame.getState());
+        }
+        Assert.assertEquals(1000 + 5, states.get(5).getPlayer(playerA.getId()).getLife());
+        Assert.assertEquals(500, states.get(10).getPlayer(playerA.getId()).getLife());
+    }
+
+    @Test
+    public void test_OldStatesMustKeepDataOfSaveMoment() throws InterruptedException {
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // copied cards are shared by the game and the saved state copy, so the game's changes after save
+        // must not be visible in the compacted state
+        Card card = currentGame.getPlayer(playerA.getId()).getHand().getCards(currentGame).iterator().next();
+        Card copiedCard = currentGame.copyCard(card, null, playerA.getId());
+
+        final int STATES_COUNT = 50;
+        GameStates states = new GameStates();
+        for (int i = 0; i < STATES_COUNT; i++) {
+            copiedCard.setName("copy " + i);
+            states.save(currentGame.getState());
+        }
+        copiedCard.setName("changed after save");
+        states.waitCompaction();
+        Assert.assertTrue("old states must be compacted", states.getCompactedDataSize() > 0);
+
+        GameState state = states.get(0);
+        Assert.assertTrue("must have copied card", state.getCopiedCards().stream().anyMatch(c -> c.getName().equals("copy 0")));
+    }
+
+    @Test
+    public void test_HistoryMustBeLimited() throws InterruptedException {
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        final int STATES_COUNT = 1100;
+        GameStates states = new GameStates();
+        for (int i = 0; i < STATES_COUNT; i++) {
+            currentGame.getPlayer(playerA.getId()).setLife(1000 + i, currentGame, null);
+            states.save(currentGame.getState());
+        }
+        states.waitCompaction();
+
+        // indexes must be same after oldest states removed
+        Assert.assertEquals(STATES_COUNT, states.getSize());
+        int firstIndex = states.getFirstIndex();
+        Assert.assertTrue("oldest states must be removed", firstIndex >= STATES_COUNT - 1000);
+        Assert.assertTrue("history must keep most of the states", firstIndex < STATES_COUNT - 1000 + 25);
+        Assert.assertNull("removed state", states.get(firstIndex - 1));
+        Assert.assertEquals(1000 + firstIndex, states.get(firstIndex).getPlayer(playerA.getId()).getLife());
+        Assert.assertEquals(1000 + 1050, states.get(1050).getPlayer(playerA.getId()).getLife());
+
+        // rollback (undo) by absolute index
+        GameState state = states.rollback(1050);
+        Assert.assertNotNull(state);
+        Assert.assertEquals(1051, states.getSize());
+        Assert.assertEquals(1000 + 1050, state.getPlayer(playerA.getId()).getLife());
+
+        // remove all available states
+        states.remove(firstIndex - 10);
+        Assert.assertEquals(firstIndex - 10, states.getSize());
+        Assert.assertEquals(firstIndex - 10, states.getFirstIndex());
+        Assert.assertNull(states.get(firstIndex - 11));
+    }
+}
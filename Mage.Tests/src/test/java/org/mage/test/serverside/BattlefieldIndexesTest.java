@@ -0,0 +1,74 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Battlefield indexes must be updated after control and phasing changes
+ */
+public class BattlefieldIndexesTest extends CardTestPlayerBase {
+
+    private int getActiveCount(Game game, Player player, String permanentName) {
+        return (int) game.getBattlefield().getAllActivePermanentsView(player.getId())
+                .stream()
+                .map(Permanent::getName)
+                .filter(permanentName::equals)
+                .count();
+    }
+
+    @Test
+    public void test_ControlChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.HAND, playerA, "Act of Treason", 1); // {2}{R}, gain control until end of turn
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1);
+
+        runCode("before control", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(0, getActiveCount(game, playerA, "Grizzly Bears"));
+            Assert.assertEquals(1, getActiveCount(game, playerB, "Grizzly Bears"));
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+
+        runCode("after control", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(1, getActiveCount(game, playerA, "Grizzly Bears"));
+            Assert.assertEquals(0, getActiveCount(game, playerB, "Grizzly Bears"));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // control returned on end of turn
+        assertPermanentCount(playerB, "Grizzly Bears", 1);
+        Assert.assertEquals(1, getActiveCount(currentGame, playerB, "Grizzly Bears"));
+    }
+
+    @Test
+    public void test_Phasing() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.HAND, playerA, "Slip Out the Back", 1); // {U}, +1/+1 counter and phases out
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Slip Out the Back", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+
+        runCode("after phase out", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(0, getActiveCount(game, playerA, "Grizzly Bears"));
+            Assert.assertTrue(game.getBattlefield().getAllPermanents().stream().anyMatch(p -> p.getName().equals("Grizzly Bears")));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // phased in on next untap step
+        Assert.assertEquals(1, getActiveCount(currentGame, playerA, "Grizzly Bears"));
+    }
+}
@@ -0,0 +1,120 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cards search in memory catalog must be same as sql queries
+ */
+public class CardCatalogTest extends CardTestPlayerBase {
+
+    private <T> void assertSame(String info, Supplier<T> search) {
+        boolean oldUseCatalog = CardRepository.USE_MEMORY_CATALOG;
+        try {
+            CardRepository.USE_MEMORY_CATALOG = false;
+            T need = search.get();
+            CardRepository.USE_MEMORY_CATALOG = true;
+            T res = search.get();
+            Assert.assertEquals(info, prepareResult(need), prepareResult(res));
+        } finally {
+            CardRepository.USE_MEMORY_CATALOG = oldUseCatalog;
+        }
+    }
+
+    private Object prepareResult(Object result) {
+        // compare lists without order (sql query can return any order)
+        if (result instanceof List) {
+            return ((List<?>) result).stream()
+                    .map(Object::toString)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        return result == null ? null : result.toString();
+    }
+
+    @Test
+    public void test_FindByName() {
+        CardRepository repository = CardRepository.instance;
+        assertSame("normal", () -> repository.findCards("Lightning Bolt"));
+        assertSame("ignore case", () -> repository.findCards("lightning BOLT"));
+        assertSame("unknown", () -> repository.findCards("Unknown Card Name"));
+        assertSame("split full", () -> repository.findCards("Fire // Ice"));
+        assertSame("split half", () -> repository.findCards("Fire"));
+        assertSame("split half as half", () -> repository.findCards("Ice", 0, true, true));
+        assertSame("adventure", () -> repository.findCards("Bonecrusher Giant // Stomp"));
+        assertSame("adventure spell", () -> repository.findCards("Stomp"));
+        assertSame("transform second side", () -> repository.findCards("Insectile Aberration"));
+        assertSame("limit", () -> repository.findCards("Forest", 3).size());
+    }
+
+    @Test
+    public void test_FindBySetAndClass() {
+        CardRepository repository = CardRepository.instance;
+        CardInfo card = repository.findCards("Delver of Secrets").get(0);
+        assertSame("set and number", () -> repository.findCard(card.getSetCode(), card.getCardNumber()));
+        assertSame("set and number with night", () -> repository.findCard(card.getSetCode(), card.getCardNumber(), false));
+        assertSame("unknown set", () -> repository.findCard("UNKNOWN", "1"));
+        assertSame("class", () -> repository.findCardsByClass(card.getClassName()));
+    }
+
+    @Test
+    public void test_FindNames() {
+        CardRepository repository = CardRepository.instance;
+        assertSame("names", repository::getNames);
+        assertSame("non land names", repository::getNonLandNames);
+        assertSame("non basic land names", repository::getNonbasicLandNames);
+        assertSame("not basic land names", repository::getNotBasicLandNames);
+        assertSame("creature names", repository::getCreatureNames);
+        assertSame("artifact names", repository::getArtifactNames);
+        assertSame("non land and non creature names", repository::getNonLandAndNonCreatureNames);
+        assertSame("non artifact and non land names", repository::getNonArtifactAndNonLandNames);
+    }
+
+    @Test
+    public void test_FindByCriteria() {
+        CardRepository repository = CardRepository.instance;
+        assertSame("set and rarity", () -> repository.findCards(new CardCriteria()
+                .setCodes("M10")
+                .rarities(Rarity.RARE, Rarity.MYTHIC)));
+        assertSame("types and colors", () -> repository.findCards(new CardCriteria()
+                .setCodes("DOM")
+                .types(CardType.CREATURE, CardType.ARTIFACT)
+                .black(false)
+                .blue(false)));
+        assertSame("supertypes and subtypes", () -> repository.findCards(new CardCriteria()
+                .supertypes(SuperType.LEGENDARY)
+                .subtypes(SubType.ELF)));
+        assertSame("basic lands", () -> repository.findCards(new CardCriteria()
+                .setCodes("ZEN")
+                .supertypes(SuperType.BASIC)
+                .minCardNumber(240)
+                .maxCardNumber(250)));
+        assertSame("name and rules", () -> repository.findCards(new CardCriteria()
+                .nameContains("bolt")
+                .rules("damage")));
+        assertSame("mana value", () -> repository.findCards(new CardCriteria()
+                .setCodes("M11")
+                .manaValue(3)
+                .notTypes(CardType.CREATURE)));
+        assertSame("night cards", () -> repository.findCards(new CardCriteria()
+                .setCodes("ISD")
+                .nightCard(true)));
+        assertSame("paging", () -> repository.findCards(new CardCriteria()
+                .setCodes("M10")
+                .setOrderBy("cardNumberAsInt")
+                .start(10L)
+                .count(20L)));
+    }
+}
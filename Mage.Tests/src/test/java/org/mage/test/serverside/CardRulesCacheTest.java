@@ -0,0 +1,148 @@
+package org.mage.test.serverside;
+
+import mage.abilities.Mode;
+import mage.abilities.Modes;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.stack.Spell;
+import mage.players.Player;
+import mage.view.CardView;
+import mage.view.GameView;
+import mage.view.PlayerView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cached rules text for game views (must be same as generated and must be updated on abilities changes)
+ */
+public class CardRulesCacheTest extends CardTestPlayerBase {
+
+    private List<String> getBattlefieldRules(Player player, String cardName) {
+        GameView gameView = getGameView(player);
+        PlayerView playerView = gameView.getPlayers().get(0);
+        Assert.assertEquals("player", player.getName(), playerView.getName());
+        CardView cardView = playerView.getBattlefield().values().stream()
+                .filter(p -> p.getName().equals(cardName))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull("must have " + cardName + " in battlefield", cardView);
+        return cardView.getRules();
+    }
+
+    private void assertRules(String info, Player player, String cardName, boolean mustHaveFlying) {
+        boolean oldCached = GameState.CACHED_RULES_TEXT;
+        try {
+            GameState.CACHED_RULES_TEXT = false;
+            List<String> needRules = getBattlefieldRules(player, cardName);
+            GameState.CACHED_RULES_TEXT = true;
+            List<String> firstRules = getBattlefieldRules(player, cardName);
+            List<String> cachedRules = getBattlefieldRules(player, cardName);
+
+            Assert.assertEquals(info + " - first call must be same as generated", needRules, firstRules);
+            Assert.assertEquals(info + " - cached call must be same as generated", needRules, cachedRules);
+            Assert.assertEquals(info + " - flying", mustHaveFlying, cachedRules.stream().anyMatch(r -> r.startsWith("Flying")));
+        } finally {
+            GameState.CACHED_RULES_TEXT = oldCached;
+        }
+    }
+
+    private List<String> getStackRules(Player player, String cardName) {
+        CardView cardView = getGameView(player).getStack().values().stream()
+                .filter(c -> c.getName().equals(cardName))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull("must have " + cardName + " on stack", cardView);
+        return cardView.getRules();
+    }
+
+    private void assertStackRules(String info, Player player, String cardName) {
+        boolean oldCached = GameState.CACHED_RULES_TEXT;
+        try {
+            GameState.CACHED_RULES_TEXT = false;
+            List<String> needRules = getStackRules(player, cardName);
+            GameState.CACHED_RULES_TEXT = true;
+            List<String> firstRules = getStackRules(player, cardName);
+            List<String> cachedRules = getStackRules(player, cardName);
+
+            Assert.assertEquals(info + " - first call must be same as generated", needRules, firstRules);
+            Assert.assertEquals(info + " - cached call must be same as generated", needRules, cachedRules);
+        } finally {
+            GameState.CACHED_RULES_TEXT = oldCached;
+        }
+    }
+
+    @Test
+    public void test_ModesChoice_MustUpdateRules() {
+        // Choose one —
+        // • Counter target noncreature spell unless its controller pays {2}.
+        // • Izzet Charm deals 2 damage to target creature.
+        // • Draw two cards, then discard two cards.
+        addCard(Zone.HAND, playerA, "Izzet Charm", 1); // {U}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Volcanic Island", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Izzet Charm", "Grizzly Bears");
+        setModeChoice(playerA, "2");
+
+        runCode("on stack", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertStackRules(info + " - chosen mode", player, "Izzet Charm");
+
+            // choices in dialogs don't fire events (modes, targets, X), so views must use actual choices
+            Spell spell = (Spell) game.getStack().getFirst();
+            Modes modes = spell.getSpellAbility().getModes();
+            UUID chosenModeId = modes.getSelectedModes().get(0);
+            UUID otherModeId = modes.values().stream()
+                    .map(Mode::getId)
+                    .filter(id -> !id.equals(chosenModeId))
+                    .findFirst()
+                    .orElse(null);
+            Assert.assertNotNull(otherModeId);
+
+            modes.clearSelectedModes();
+            modes.addSelectedMode(otherModeId);
+            assertStackRules(info + " - other mode", player, "Izzet Charm");
+
+            modes.clearSelectedModes();
+            modes.addSelectedMode(chosenModeId);
+            assertStackRules(info + " - restored mode", player, "Izzet Charm");
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerB, "Grizzly Bears", 1);
+    }
+
+    @Test
+    public void test_GainedAbilities_MustUpdateRules() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        //
+        // Target creature gains flying until end of turn.
+        addCard(Zone.HAND, playerA, "Jump", 1); // {U}
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+
+        runCode("before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertRules(info, player, "Grizzly Bears", false);
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Jump", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("gained flying", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertRules(info, player, "Grizzly Bears", true);
+        });
+
+        runCode("lost flying", 2, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertRules(info, player, "Grizzly Bears", false);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+}
@@ -0,0 +1,62 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.predicate.Predicates;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiled predicates of filters must give same result as full predicates check
+ */
+public class CompiledFilterTest extends CardTestPlayerBase {
+
+    private static final List<FilterPermanent> filters = Arrays.asList(
+            StaticFilters.FILTER_PERMANENT,
+            StaticFilters.FILTER_PERMANENT_CREATURE,
+            StaticFilters.FILTER_PERMANENT_CREATURE_NON_BLACK,
+            StaticFilters.FILTER_PERMANENT_ARTIFACT_OR_CREATURE,
+            StaticFilters.FILTER_PERMANENT_NON_LAND,
+            StaticFilters.FILTER_CREATURE_TOKENS,
+            StaticFilters.FILTER_LAND,
+            StaticFilters.FILTER_CONTROLLED_CREATURE
+    );
+
+    private void prepareBigBoard() {
+        // 100 permanents
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 20);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 15);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Bog Wraith", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 15);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", 10);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    @Test
+    public void test_CompiledFilter_MustBeSameAsPredicates() {
+        prepareBigBoard();
+
+        List<Permanent> permanents = new ArrayList<>(currentGame.getBattlefield().getAllPermanents());
+        Assert.assertEquals(100, permanents.size());
+        for (FilterPermanent filter : filters) {
+            for (Permanent permanent : permanents) {
+                boolean need = Predicates.and(filter.getPredicates()).apply(permanent, currentGame);
+                Assert.assertEquals(filter.getMessage() + " - " + permanent.getName(), need, filter.match(permanent, currentGame));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Copy-on-write mode for simulation's game state (lazy copy of battlefield, stack, effects, etc)
+ */
+public class CopyOnWriteGameStateTest extends CardTestPlayerBase {
+
+    private void prepareBigBoard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 10);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    @Test
+    public void test_SimulationCopiesMustBeIndependent() {
+        prepareBigBoard();
+
+        Game root = currentGame.createSimulationForAI();
+        Game child1 = root.createSimulationForAI();
+        Game child2 = child1.createSimulationForAI();
+
+        // change in copy must not affect source
+        Permanent bear = child2.getBattlefield().getAllActivePermanents()
+                .stream()
+                .filter(p -> p.getName().equals("Balduvian Bears"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(bear);
+        bear.tap(null, child2);
+        Assert.assertTrue(child2.getPermanent(bear.getId()).isTapped());
+        Assert.assertFalse(child1.getPermanent(bear.getId()).isTapped());
+        Assert.assertFalse(root.getPermanent(bear.getId()).isTapped());
+
+        // change in source must not affect copy
+        Game child3 = root.createSimulationForAI();
+        root.getPermanent(bear.getId()).tap(null, root);
+        Assert.assertTrue(root.getPermanent(bear.getId()).isTapped());
+        Assert.assertFalse(child3.getPermanent(bear.getId()).isTapped());
+        Assert.assertFalse(child1.getPermanent(bear.getId()).isTapped());
+
+        // refs from source must stay valid after the copy
+        Permanent rootBear = root.getPermanent(bear.getId());
+        Game child4 = root.createSimulationForAI();
+        rootBear.untap(root);
+        Assert.assertFalse(root.getPermanent(bear.getId()).isTapped());
+        Assert.assertTrue(child4.getPermanent(bear.getId()).isTapped());
+
+        // changes by refs from source (taken before the copy) must not affect copy, even without any state access
+        Game child5 = root.createSimulationForAI();
+        Game child6 = child5.createSimulationForAI(); // copy of not used copy
+        rootBear.setTapped(true);
+        Assert.assertSame(rootBear, root.getPermanent(bear.getId()));
+        Assert.assertTrue(root.getPermanent(bear.getId()).isTapped());
+        Assert.assertFalse(child5.getPermanent(bear.getId()).isTapped());
+        Assert.assertFalse(child6.getPermanent(bear.getId()).isTapped());
+
+        // copies must have own objects
+        Assert.assertNotSame(root.getPermanent(bear.getId()), child4.getPermanent(bear.getId()));
+        Assert.assertNotSame(child3.getPermanent(bear.getId()), child4.getPermanent(bear.getId()));
+    }
+
+    @Test
+    public void test_PlayableCalcCopyMustBeIndependent() {
+        prepareBigBoard();
+
+        Game root = currentGame.createSimulationForAI();
+        Permanent rootBear = root.getBattlefield().getAllActivePermanents()
+                .stream()
+                .filter(p -> p.getName().equals("Balduvian Bears"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(rootBear);
+
+        // change in short living copy must not affect source
+        Game calc = root.createSimulationForPlayableCalc();
+        calc.getPermanent(rootBear.getId()).tap(null, calc);
+        Assert.assertTrue(calc.getPermanent(rootBear.getId()).isTapped());
+        Assert.assertFalse(rootBear.isTapped());
+        calc.getState().releaseSharedContainers();
+
+        // source's changes after release
+        Game calc2 = root.createSimulationForPlayableCalc();
+        calc2.getState().releaseSharedContainers();
+        root.getPermanent(rootBear.getId()).tap(null, root);
+        Assert.assertSame(rootBear, root.getPermanent(rootBear.getId()));
+        Assert.assertTrue(rootBear.isTapped());
+    }
+
+    @Test
+    public void test_ParallelCopiesMustBeIndependent() throws Exception {
+        prepareBigBoard();
+
+        Game root = currentGame.createSimulationForAI();
+        Game lazyRoot = root.createSimulationForAI(); // not used copy, so all copies will share same snapshots
+        UUID bearId = root.getBattlefield().getAllActivePermanents()
+                .stream()
+                .filter(p -> p.getName().equals("Balduvian Bears"))
+                .map(Permanent::getId)
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(bearId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Game source = i % 2 == 0 ? root : lazyRoot;
+                tasks.add(executor.submit(() -> {
+                    Game sim = source.createSimulationForAI();
+                    Game simChild = sim.createSimulationForAI();
+                    Permanent bear = sim.getPermanent(bearId);
+                    bear.tap(null, sim);
+                    return bear.isTapped() && !simChild.getPermanent(bearId).isTapped();
+                }));
+            }
+            for (Future<Boolean> task : tasks) {
+                Assert.assertTrue("copy must be independent", task.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertFalse(root.getPermanent(bearId).isTapped());
+        Assert.assertFalse(lazyRoot.getPermanent(bearId).isTapped());
+    }
+
+    @Test
+    public void test_SimulationCopiesMustHaveSameEffects() {
+        prepareBigBoard();
+
+        Game root = currentGame.createSimulationForAI();
+        Game child = root.createSimulationForAI();
+        child.getState().applyEffects(child);
+
+        Permanent bear = child.getBattlefield().getAllActivePermanents()
+                .stream()
+                .filter(p -> p.getName().equals("Balduvian Bears"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(bear);
+        Assert.assertEquals(2 + 3, bear.getPower().getValue());
+        Assert.assertEquals(
+                root.getState().getContinuousEffects().getLayeredEffects(root).size(),
+                child.getState().getContinuousEffects().getLayeredEffects(child).size()
+        );
+    }
+}
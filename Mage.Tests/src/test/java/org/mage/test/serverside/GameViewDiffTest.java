@@ -0,0 +1,139 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.remote.traffic.GameViewDiff;
+import mage.remote.traffic.GameViewDiffDecoder;
+import mage.remote.traffic.GameViewDiffEncoder;
+import mage.server.game.SharedGameView;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+import mage.view.GameView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Game updates must be sent as small diffs to the last sent game view
+ */
+public class GameViewDiffTest extends CardTestPlayerBase {
+
+    private void prepareGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 5);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 5);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private GameView makeView(int life) {
+        currentGame.getPlayer(playerB.getId()).setLife(life, currentGame, null);
+        return getGameView(playerA);
+    }
+
+    private int getLifeB(GameView gameView) {
+        return gameView.getPlayers().stream()
+                .filter(player -> player.getPlayerId().equals(playerB.getId()))
+                .findFirst()
+                .get()
+                .getLife();
+    }
+
+    @Test
+    public void test_DiffsMustRestoreSameViews() throws Exception {
+        prepareGame();
+        GameViewDiffEncoder encoder = new GameViewDiffEncoder();
+        GameViewDiffDecoder decoder = new GameViewDiffDecoder();
+
+        GameViewDiff first = (GameViewDiff) encoder.encode(makeView(20));
+        Assert.assertTrue("first update must be full", first.isFull());
+        Assert.assertEquals(20, getLifeB(decoder.decode(first)));
+
+        for (int life = 19; life > 10; life--) {
+            GameView gameView = makeView(life);
+            GameViewDiff diff = (GameViewDiff) encoder.encode(gameView);
+            Assert.assertFalse("small changes must be sent as diff", diff.isFull());
+            int fullSize = SerializationUtil.toBytes(gameView, SerializationFormat.getDefault(), true).length;
+            int diffSize = SerializationUtil.toBytes(diff, SerializationFormat.getDefault(), true).length;
+            Assert.assertTrue("diff " + diffSize + " vs full " + fullSize, diffSize < fullSize / 2);
+
+            GameView restored = decoder.decode(diff);
+            Assert.assertNotNull(restored);
+            Assert.assertEquals(life, getLifeB(restored));
+            Assert.assertEquals(gameView.getMyHand().size(), restored.getMyHand().size());
+            Assert.assertEquals(
+                    gameView.getPlayers().get(0).getBattlefield().size(),
+                    restored.getPlayers().get(0).getBattlefield().size()
+            );
+        }
+    }
+
+    @Test
+    public void test_MissedDiffMustWaitFullView() {
+        prepareGame();
+        GameViewDiffEncoder encoder = new GameViewDiffEncoder();
+        GameViewDiffDecoder decoder = new GameViewDiffDecoder();
+
+        Assert.assertNotNull(decoder.decode(encoder.encode(makeView(20))));
+        Assert.assertFalse(decoder.pollResyncRequest());
+        encoder.encode(makeView(19)); // missed message
+        Assert.assertNull("diff to unknown view must be ignored", decoder.decode(encoder.encode(makeView(18))));
+        Assert.assertTrue("lost base view must ask for resync", decoder.pollResyncRequest());
+        Assert.assertFalse("resync must be asked once", decoder.pollResyncRequest());
+        Assert.assertNull(decoder.decode(encoder.encode(makeView(18))));
+        Assert.assertFalse("resync must be asked once per lost base", decoder.pollResyncRequest());
+
+        // resync (server side)
+        encoder.reset();
+        GameView restored = decoder.decode(encoder.encode(makeView(17)));
+        Assert.assertNotNull(restored);
+        Assert.assertEquals(17, getLifeB(restored));
+        restored = decoder.decode(encoder.encode(makeView(16)));
+        Assert.assertNotNull(restored);
+        Assert.assertEquals(16, getLifeB(restored));
+        Assert.assertFalse(decoder.pollResyncRequest());
+    }
+
+    @Test
+    public void test_NewClientMustAskFullView() {
+        prepareGame();
+        GameViewDiffEncoder encoder = new GameViewDiffEncoder();
+
+        // reconnected client without base view
+        encoder.encode(makeView(20));
+        GameViewDiffDecoder decoder = new GameViewDiffDecoder();
+        Assert.assertNull(decoder.decode(encoder.encode(makeView(19))));
+        Assert.assertTrue(decoder.pollResyncRequest());
+
+        encoder.reset();
+        GameView restored = decoder.decode(encoder.encode(makeView(18)));
+        Assert.assertNotNull(restored);
+        Assert.assertEquals(18, getLifeB(restored));
+    }
+
+    @Test
+    public void test_SharedViewMustBeSameForAllWatchers() {
+        prepareGame();
+        GameViewDiffEncoder encoder1 = new GameViewDiffEncoder();
+        GameViewDiffEncoder encoder2 = new GameViewDiffEncoder();
+        GameViewDiffDecoder decoder1 = new GameViewDiffDecoder();
+        GameViewDiffDecoder decoder2 = new GameViewDiffDecoder();
+
+        for (int life = 20; life > 15; life--) {
+            currentGame.getPlayer(playerB.getId()).setLife(life, currentGame, null);
+            SharedGameView sharedView = new SharedGameView(currentGame);
+            byte[] data = sharedView.getData();
+            Assert.assertNotNull(data);
+            Assert.assertSame("shared view must be serialized once", data, sharedView.getData());
+            Assert.assertNull("shared view must be public", sharedView.getGameView().getMyPlayer());
+
+            GameView restored1 = decoder1.decode(encoder1.encode(data, sharedView.getFormat()));
+            GameView restored2 = decoder2.decode(encoder2.encode(data, sharedView.getFormat()));
+            Assert.assertEquals(life, getLifeB(restored1));
+            Assert.assertEquals(life, getLifeB(restored2));
+        }
+    }
+}
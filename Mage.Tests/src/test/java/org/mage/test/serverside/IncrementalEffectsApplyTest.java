@@ -0,0 +1,116 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.util.DebugUtil;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Incremental effects apply: full apply must be skipped for unchanged game only
+ * (tests run it without DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS, so real skips are used)
+ */
+public class IncrementalEffectsApplyTest extends CardTestPlayerBase {
+
+    private Permanent findPermanent(Game game, String cardName) {
+        Permanent permanent = game.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(p -> p.getName().equals(cardName))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull("must have " + cardName + " in battlefield", permanent);
+        return permanent;
+    }
+
+    private void assertPower(String info, Game game, Permanent permanent, int needPower) {
+        game.applyEffects();
+        Assert.assertTrue(info + " - must be applied", game.getState().isEffectsApplyActual());
+        Assert.assertEquals(info + " - power", needPower, permanent.getPower().getValue());
+
+        // skipped apply must keep same result
+        game.applyEffects();
+        Assert.assertTrue(info + " - must be skipped", game.getState().isEffectsApplyActual());
+        Assert.assertEquals(info + " - power after skip", needPower, permanent.getPower().getValue());
+    }
+
+    @Test
+    public void test_ChangesWithoutEvents_MustApplyAgain() {
+        // Equipped creature gets +2/+0.
+        addCard(Zone.BATTLEFIELD, playerA, "Bonesplitter", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1); // 2/2
+
+        runCode("direct changes", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            boolean oldChecks = DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS;
+            DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = false;
+            try {
+                Permanent equipment = findPermanent(game, "Bonesplitter");
+                Permanent bears = findPermanent(game, "Grizzly Bears");
+                assertPower(info + " - before", game, bears, 2);
+
+                // attach without events
+                equipment.attachTo(bears.getId(), null, game);
+                Assert.assertFalse(info + " - attached game must be applied again", game.getState().isEffectsApplyActual());
+                assertPower(info + " - attached", game, bears, 4);
+
+                // unattach without events
+                equipment.unattach(game);
+                Assert.assertFalse(info + " - unattached game must be applied again", game.getState().isEffectsApplyActual());
+                assertPower(info + " - unattached", game, bears, 2);
+
+                // values and direct changes from any code
+                game.getState().setValue("incremental apply test", Boolean.TRUE);
+                Assert.assertFalse(info + " - changed value must be applied again", game.getState().isEffectsApplyActual());
+                game.applyEffects();
+                game.getState().setChanged();
+                Assert.assertFalse(info + " - changed game must be applied again", game.getState().isEffectsApplyActual());
+                assertPower(info + " - after changes", game, bears, 2);
+            } finally {
+                DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = oldChecks;
+            }
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_NewEffects_MustApplyAgain() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1); // 2/2
+        //
+        // Target creature gets +3/+3 until end of turn.
+        addCard(Zone.HAND, playerA, "Giant Growth", 1); // {G}
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+
+        runCode("before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            boolean oldChecks = DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS;
+            DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = false;
+            try {
+                assertPower(info, game, findPermanent(game, "Grizzly Bears"), 2);
+            } finally {
+                DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = oldChecks;
+            }
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("after", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            boolean oldChecks = DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS;
+            DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = false;
+            try {
+                assertPower(info, game, findPermanent(game, "Grizzly Bears"), 2 + 3);
+            } finally {
+                DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = oldChecks;
+            }
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertPowerToughness(playerA, "Grizzly Bears", 2 + 3, 2 + 3);
+    }
+}
@@ -0,0 +1,116 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.players.PlayableObjectsList;
+import mage.players.Player;
+import mage.players.PlayerImpl;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Playable objects for GUI are cached until game state changes
+ */
+public class PlayableObjectsCacheTest extends CardTestPlayerBase {
+
+    private int getPlayableCount(Game game, Player player, String cardName) {
+        PlayableObjectsList playable = player.getPlayableObjects(game, Zone.ALL);
+        return (int) player.getHand().getCards(game).stream()
+                .filter(card -> card.getName().equals(cardName))
+                .filter(card -> playable.containsObject(card.getId()))
+                .count();
+    }
+
+    private boolean isPlayable(Game game, Player player, Permanent permanent) {
+        return player.getPlayableObjects(game, Zone.ALL).containsObject(permanent.getId());
+    }
+
+    private int getCalcCount(Player player) {
+        return ((PlayerImpl) ((TestPlayer) player).getComputerPlayer()).getPlayableObjectsCalcCount();
+    }
+
+    private Permanent findPermanent(Game game, String cardName) {
+        Permanent permanent = game.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(p -> p.getName().equals(cardName))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull("must have " + cardName + " in battlefield", permanent);
+        return permanent;
+    }
+
+    @Test
+    public void test_PlayableMustBeUpdatedAfterStateChanges() {
+        addCard(Zone.HAND, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        runCode("before land", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            int calcCount = getCalcCount(player);
+            Assert.assertEquals(1, getPlayableCount(game, player, "Mountain"));
+            Assert.assertEquals(0, getPlayableCount(game, player, "Lightning Bolt"));
+            Assert.assertEquals("first call must calc", calcCount + 1, getCalcCount(player));
+
+            // same state - same result
+            Assert.assertEquals(1, getPlayableCount(game, player, "Mountain"));
+            Assert.assertEquals(0, getPlayableCount(game, player, "Lightning Bolt"));
+            Assert.assertEquals("same state must use cache", calcCount + 1, getCalcCount(player));
+        });
+
+        playLand(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mountain");
+
+        runCode("after land", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            int calcCount = getCalcCount(player);
+            Assert.assertEquals(1, getPlayableCount(game, player, "Lightning Bolt"));
+            Assert.assertEquals("changed state must calc", calcCount + 1, getCalcCount(player));
+            Assert.assertEquals(1, getPlayableCount(game, player, "Lightning Bolt"));
+            Assert.assertEquals("same state must use cache", calcCount + 1, getCalcCount(player));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_PlayableMustBeUpdatedAfterAttachmentChanges() {
+        // {T}: Prodigal Pyromancer deals 1 damage to any target.
+        addCard(Zone.HAND, playerA, "Prodigal Pyromancer", 1); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        //
+        // Equipped creature has shroud and haste.
+        // Equip {0}
+        addCard(Zone.BATTLEFIELD, playerA, "Lightning Greaves", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Prodigal Pyromancer");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+
+        runCode("attachment only", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Permanent pyromancer = findPermanent(game, "Prodigal Pyromancer");
+            Permanent greaves = findPermanent(game, "Lightning Greaves");
+
+            int calcCount = getCalcCount(player);
+            Assert.assertFalse("summoning sickness", isPlayable(game, player, pyromancer));
+            Assert.assertFalse("summoning sickness", isPlayable(game, player, pyromancer));
+            Assert.assertEquals("same state must use cache", calcCount + 1, getCalcCount(player));
+
+            // attach without events
+            greaves.attachTo(pyromancer.getId(), null, game);
+            game.applyEffects();
+            Assert.assertTrue("haste from attachment", isPlayable(game, player, pyromancer));
+            Assert.assertEquals("attached must calc", calcCount + 2, getCalcCount(player));
+
+            greaves.unattach(game);
+            game.applyEffects();
+            Assert.assertFalse("lost haste from attachment", isPlayable(game, player, pyromancer));
+            Assert.assertEquals("unattached must calc", calcCount + 3, getCalcCount(player));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+}
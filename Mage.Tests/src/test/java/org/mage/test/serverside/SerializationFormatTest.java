@@ -0,0 +1,71 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+import mage.view.GameView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compact and java serialization formats for network data (game view) and saved data (game state)
+ */
+public class SerializationFormatTest extends CardTestPlayerBase {
+
+    private void prepareMidGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.GRAVEYARD, playerA, "Shock", 4);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 2);
+        addCard(Zone.HAND, playerB, "Giant Growth", 3);
+        addCard(Zone.GRAVEYARD, playerB, "Llanowar Elves", 4);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    @Test
+    public void test_GameView_MustBeSameForAllFormats() throws Exception {
+        prepareMidGame();
+        GameView gameView = getGameView(playerA);
+
+        for (SerializationFormat format : SerializationFormat.values()) {
+            byte[] data = SerializationUtil.toBytes(gameView, format, true);
+            GameView restored = (GameView) SerializationUtil.fromBytes(data, format, true, null);
+            Assert.assertEquals(format.toString(), gameView.getPlayers().size(), restored.getPlayers().size());
+            Assert.assertEquals(format.toString(),
+                    gameView.getPlayers().get(0).getBattlefield().size(),
+                    restored.getPlayers().get(0).getBattlefield().size()
+            );
+            Assert.assertEquals(format.toString(), gameView.getMyHand().size(), restored.getMyHand().size());
+        }
+
+        // compact format must be smaller
+        int javaSize = SerializationUtil.toBytes(gameView, SerializationFormat.JAVA, false).length;
+        int compactSize = SerializationUtil.toBytes(gameView, SerializationFormat.COMPACT, false).length;
+        Assert.assertTrue("compact " + compactSize + " vs java " + javaSize, compactSize < javaSize);
+    }
+
+    @Test
+    public void test_GameState_MustBeSameForAllFormats() throws Exception {
+        prepareMidGame();
+        GameState state = currentGame.getState();
+
+        for (SerializationFormat format : SerializationFormat.values()) {
+            byte[] data = SerializationUtil.toBytes(state, format, false);
+            GameState restored = (GameState) SerializationUtil.fromBytes(data, format, false, null);
+            Assert.assertEquals(format.toString(),
+                    state.getBattlefield().getAllPermanents().size(),
+                    restored.getBattlefield().getAllPermanents().size()
+            );
+        }
+    }
+}
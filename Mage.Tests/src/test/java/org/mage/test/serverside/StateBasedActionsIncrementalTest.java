@@ -0,0 +1,115 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.util.DebugUtil;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Incremental state based actions: full check must be skipped for unchanged game only
+ * (tests also compare each skipped check with full check, see DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS)
+ */
+public class StateBasedActionsIncrementalTest extends CardTestPlayerBase {
+
+    private boolean isChecked(Game game) {
+        return game.getState().isStateBasedActionsChecked(game.getState().getStateBasedActionsVersion());
+    }
+
+    private Permanent findPermanent(Game game, String cardName) {
+        Permanent permanent = game.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(p -> p.getName().equals(cardName))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull("must have " + cardName + " in battlefield", permanent);
+        return permanent;
+    }
+
+    @Test
+    public void test_Damage() {
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 1);
+
+        runCode("damage", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertTrue("unchanged game must be checked", isChecked(game));
+
+            Permanent permanent = findPermanent(game, "Grizzly Bears");
+            permanent.damage(2, permanent.getId(), null, game);
+            Assert.assertFalse("damaged game must be checked again", isChecked(game));
+        });
+
+        checkPermanentCount("lethal damage", 1, PhaseStep.PRECOMBAT_MAIN, playerB, "Grizzly Bears", 0);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_Toughness() {
+        addCard(Zone.BATTLEFIELD, playerB, "Llanowar Elves", 1); // 1/1
+        //
+        // Enchanted creature gets -2/-1.
+        addCard(Zone.HAND, playerA, "Weakness", 1); // {B}
+        addCard(Zone.BATTLEFIELD, playerA, "Swamp", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Weakness", "Llanowar Elves");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPermanentCount("zero toughness", 1, PhaseStep.PRECOMBAT_MAIN, playerB, "Llanowar Elves", 0);
+        checkPermanentCount("aura without creature", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Weakness", 0);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerB, "Llanowar Elves", 1);
+        assertGraveyardCount(playerA, "Weakness", 1);
+    }
+
+    @Test
+    public void test_ChangesWithoutEvents_MustCheckAgain() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        //
+        // Enchanted creature gets +1/+2.
+        addCard(Zone.HAND, playerA, "Holy Strength", 1); // {W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Holy Strength", "Grizzly Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+
+        // real skips without full checks
+        runCode("unattach", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            boolean oldEffectsChecks = DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS;
+            boolean oldChecks = DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS;
+            DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = false;
+            DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS = false;
+            try {
+                Assert.assertTrue("unchanged game must be checked", isChecked(game));
+                game.checkStateAndTriggered();
+                Permanent aura = findPermanent(game, "Holy Strength");
+                Assert.assertTrue("skipped check must keep aura", isChecked(game));
+
+                // aura without attachment must go to graveyard
+                aura.unattach(game);
+                Assert.assertFalse("changed game must be checked again", isChecked(game));
+                game.applyEffects();
+                Assert.assertFalse("changed game must be checked again after effects apply", isChecked(game));
+                game.checkStateAndTriggered();
+            } finally {
+                DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = oldEffectsChecks;
+                DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS = oldChecks;
+            }
+        });
+        checkPermanentCount("aura without attachment", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Holy Strength", 0);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerA, "Holy Strength", 1);
+        assertPowerToughness(playerA, "Grizzly Bears", 2, 2);
+    }
+}
@@ -40,6 +40,7 @@ import mage.target.common.TargetCardInExile;
 import mage.target.common.TargetCardInGraveyard;
 import mage.target.common.TargetCardInLibrary;
 import mage.util.Copier;
+import mage.util.DebugUtil;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.junit.Assert;
@@ -104,6 +105,14 @@ public abstract class MageTestPlayerBase {
         logger.debug("Logging level: " + logger.getLevel());
         logger.debug("Default charset: " + Charset.defaultCharset());
 
+        // tests must find all broken triggers processing and effects apply
+        DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS = true;
+        DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS = true;
+        DebugUtil.GAME_REPLACEMENT_EFFECTS_INDEX_CHECKS = true;
+        DebugUtil.GAME_BATTLEFIELD_INDEX_CHECKS = true;
+        DebugUtil.GAME_RULES_CACHE_CHECKS = true;
+        DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS = true;
+
         // one time init for all tests
         if (GameFactory.instance.getGameTypes().isEmpty()) {
             deleteSavedGames();
@@ -0,0 +1,54 @@
+package org.mage.test.serverside.performance;
+
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cards creation for decks and boosters (cached constructors)
+ */
+public class CardCreatePerformanceTest extends CardTestPlayerBase {
+
+    private List<CardInfo> prepareDeckCards() {
+        List<CardInfo> cards = CardRepository.instance.findCards(new CardCriteria().setCodes("M10"));
+        Assert.assertTrue("must have cards", cards.size() >= 60);
+        return cards.subList(0, 60);
+    }
+
+    private List<Card> createDeck(List<CardInfo> cardInfos) {
+        List<Card> res = new ArrayList<>(cardInfos.size());
+        for (CardInfo cardInfo : cardInfos) {
+            res.add(cardInfo.createCard());
+        }
+        return res;
+    }
+
+    @Test
+    @Ignore // debug only, benchmark for decks and boosters generation
+    public void test_Benchmark_DecksAndBoosters() throws Exception {
+        List<CardInfo> cardInfos = prepareDeckCards();
+        ExpansionSet set = Sets.findSet("M10");
+
+        PerformanceBenchmark.compareModes("Cached constructors, 60 cards deck", 100, 1000,
+                () -> CardImpl.USE_CACHED_CONSTRUCTORS,
+                mode -> CardImpl.USE_CACHED_CONSTRUCTORS = mode,
+                () -> createDeck(cardInfos)
+        );
+        PerformanceBenchmark.compareModes("Cached constructors, 15 cards booster", 100, 1000,
+                () -> CardImpl.USE_CACHED_CONSTRUCTORS,
+                mode -> CardImpl.USE_CACHED_CONSTRUCTORS = mode,
+                set::createBooster
+        );
+    }
+}
@@ -1,7 +1,11 @@
 package org.mage.test.serverside.performance;
 
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.GameState;
 import org.junit.Ignore;
+import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
 
 /**
@@ -25,6 +29,41 @@ public class CopyGameStatePerformanceTest extends CardTestPlayerBase {
         System.out.println("Test took: " + (t2-t1) + " ms");
     }
 
+    @Test
+    public void test_CopyOnWrite_CopyCostPerNode() throws Exception {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 10);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        final int WARMUP = 2000;
+        final int NODES = 20000;
+        Game root = currentGame.createSimulationForAI();
+
+        // node creation only
+        PerformanceBenchmark.compareModes("Copy-on-write, copy", WARMUP, NODES,
+                () -> GameState.COPY_ON_WRITE_SIMULATIONS,
+                mode -> GameState.COPY_ON_WRITE_SIMULATIONS = mode,
+                root::createSimulationForAI
+        );
+
+        // node creation and layers apply
+        PerformanceBenchmark.compareModes("Copy-on-write, copy and apply effects", WARMUP, NODES,
+                () -> GameState.COPY_ON_WRITE_SIMULATIONS,
+                mode -> GameState.COPY_ON_WRITE_SIMULATIONS = mode,
+                () -> {
+                    Game sim = root.createSimulationForAI();
+                    sim.getState().applyEffects(sim);
+                }
+        );
+    }
+
     public static void main(String[] args) {
         CopyGameStatePerformanceTest test = new CopyGameStatePerformanceTest();
         try {
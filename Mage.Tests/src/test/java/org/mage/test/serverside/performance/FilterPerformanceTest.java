@@ -0,0 +1,62 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Filters usage on big boards (compiled predicates)
+ */
+public class FilterPerformanceTest extends CardTestPlayerBase {
+
+    private static final List<FilterPermanent> filters = Arrays.asList(
+            StaticFilters.FILTER_PERMANENT,
+            StaticFilters.FILTER_PERMANENT_CREATURE,
+            StaticFilters.FILTER_PERMANENT_CREATURE_NON_BLACK,
+            StaticFilters.FILTER_PERMANENT_ARTIFACT_OR_CREATURE,
+            StaticFilters.FILTER_PERMANENT_NON_LAND,
+            StaticFilters.FILTER_CREATURE_TOKENS,
+            StaticFilters.FILTER_LAND,
+            StaticFilters.FILTER_CONTROLLED_CREATURE
+    );
+
+    private void prepareBigBoard() {
+        // 100 permanents
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 20);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 15);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Bog Wraith", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 20);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 15);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", 10);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    @Test
+    @Ignore // debug only, benchmark for filters usage
+    public void test_Benchmark_StaticFilters() throws Exception {
+        prepareBigBoard();
+
+        System.out.printf("Static filters on 100 permanents: %d found by %d filters%n", countAll(), filters.size());
+        PerformanceBenchmark.measure("Static filters on 100 permanents", 1000, 10000, this::countAll);
+    }
+
+    private int countAll() {
+        int res = 0;
+        for (FilterPermanent filter : filters) {
+            res += currentGame.getBattlefield().count(filter, playerA.getId(), null, currentGame);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,36 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Available mana calculation on big boards
+ */
+public class ManaOptionsPerformanceTest extends CardTestPlayerBase {
+
+    private void prepareFiveColorsBoard() {
+        // 5 colors, 20 sources with 3 colors each
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 4); // W/U/B
+        addCard(Zone.BATTLEFIELD, playerA, "Crumbling Necropolis", 4); // U/B/R
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", 4); // R/G/W
+        addCard(Zone.BATTLEFIELD, playerA, "Savage Lands", 4); // B/R/G
+        addCard(Zone.BATTLEFIELD, playerA, "Seaside Citadel", 4); // G/W/U
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    @Test
+    @Ignore // debug only, benchmark for available mana calculation
+    public void test_Benchmark_FiveColorsBoard() throws Exception {
+        prepareFiveColorsBoard();
+
+        System.out.printf("Available mana for 20 sources: %d options%n", playerA.getAvailableManaTest(currentGame).size());
+        PerformanceBenchmark.measure("Available mana for 20 sources", 3, 10,
+                () -> playerA.getAvailableManaTest(currentGame)
+        );
+    }
+}
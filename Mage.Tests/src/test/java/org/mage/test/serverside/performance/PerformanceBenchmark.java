@@ -0,0 +1,53 @@
+package org.mage.test.serverside.performance;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Debug only: simple timings for ignored benchmarks (build has no JMH). Each measure makes
+ * warmup iterations first and prints average time per iteration.
+ */
+public final class PerformanceBenchmark {
+
+    @FunctionalInterface
+    public interface Iteration {
+        void run() throws Exception;
+    }
+
+    private PerformanceBenchmark() {
+    }
+
+    /**
+     * @return average time per iteration in microseconds
+     */
+    public static double measure(String info, int warmup, int iterations, Iteration iteration) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            iteration.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            iteration.run();
+        }
+        double res = (System.nanoTime() - start) / 1000.0 / iterations;
+
+        System.out.printf("%s: %.2f us per iteration%n", info, res);
+        return res;
+    }
+
+    /**
+     * Measure same code with disabled and enabled optimization, old mode will be restored after
+     */
+    public static void compareModes(String info, int warmup, int iterations,
+                                    BooleanSupplier getMode, Consumer<Boolean> setMode, Iteration iteration) throws Exception {
+        boolean oldMode = getMode.getAsBoolean();
+        try {
+            for (boolean mode : new boolean[]{false, true}) {
+                setMode.accept(mode);
+                measure(info + " " + (mode ? "ON" : "OFF"), warmup, iterations, iteration);
+            }
+        } finally {
+            setMode.accept(oldMode);
+        }
+    }
+}
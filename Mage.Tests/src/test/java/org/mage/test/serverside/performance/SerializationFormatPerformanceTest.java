@@ -0,0 +1,60 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+import mage.view.GameView;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compact and java serialization formats for network data (game view) and saved data (game state)
+ */
+public class SerializationFormatPerformanceTest extends CardTestPlayerBase {
+
+    private void prepareMidGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 7);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.GRAVEYARD, playerA, "Shock", 4);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 7);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Sapphire Medallion", 2);
+        addCard(Zone.HAND, playerB, "Giant Growth", 3);
+        addCard(Zone.GRAVEYARD, playerB, "Llanowar Elves", 4);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    @Test
+    @Ignore // debug only, benchmark for serialization formats
+    public void test_Benchmark_Formats() throws Exception {
+        prepareMidGame();
+        GameView gameView = getGameView(playerA);
+        GameState state = currentGame.getState();
+
+        final int WARMUP = 500;
+        final int ITERATIONS = 2000;
+        for (SerializationFormat format : SerializationFormat.values()) {
+            benchmark("GameView (zipped), " + format, gameView, format, true, WARMUP, ITERATIONS);
+            benchmark("GameState, " + format, state, format, false, WARMUP, ITERATIONS);
+        }
+    }
+
+    private void benchmark(String info, Object object, SerializationFormat format, boolean compress, int warmup, int iterations) throws Exception {
+        byte[] data = SerializationUtil.toBytes(object, format, compress);
+        System.out.printf("%s: size %d bytes%n", info, data.length);
+        PerformanceBenchmark.measure(info + ", write", warmup, iterations,
+                () -> SerializationUtil.toBytes(object, format, compress)
+        );
+        PerformanceBenchmark.measure(info + ", read", warmup, iterations,
+                () -> SerializationUtil.fromBytes(data, format, compress, null)
+        );
+    }
+}
@@ -1,5 +1,11 @@
 package org.mage.test.utils;
 
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.cards.repository.CardCriteria;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
 import mage.cards.repository.CardScanner;
@@ -7,7 +13,10 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * Testing of CardRepository functionality.
@@ -205,4 +214,96 @@ public class CardRepositoryTest {
         Assert.assertEquals("320", CardRepository.instance.findCardWithPreferredSetAndNumber("Hauken's Insight", "VOW", "320").getCardNumber());
         Assert.assertEquals("332", CardRepository.instance.findCardWithPreferredSetAndNumber("Hauken's Insight", "VOW", "332").getCardNumber());
     }
+
+    @Test
+    public void test_CachedConstructors_MustBeSameAsReflection() {
+        boolean oldUseCached = CardImpl.USE_CACHED_CONSTRUCTORS;
+        try {
+            List<CardInfo> cardInfos = CardRepository.instance.findCards(new CardCriteria().setCodes("M10"));
+            Assert.assertTrue("must have cards", cardInfos.size() >= 60);
+            cardInfos = cardInfos.subList(0, 60);
+
+            CardImpl.USE_CACHED_CONSTRUCTORS = false;
+            List<Card> need = cardInfos.stream().map(CardInfo::createCard).collect(Collectors.toList());
+            CardImpl.USE_CACHED_CONSTRUCTORS = true;
+            List<Card> res = cardInfos.stream().map(CardInfo::createCard).collect(Collectors.toList());
+
+            Assert.assertEquals(need.size(), res.size());
+            for (int i = 0; i < need.size(); i++) {
+                Assert.assertNotNull(res.get(i));
+                Assert.assertEquals(need.get(i).getClass(), res.get(i).getClass());
+                Assert.assertEquals(need.get(i).getName(), res.get(i).getName());
+                Assert.assertEquals(need.get(i).getExpansionSetCode(), res.get(i).getExpansionSetCode());
+                Assert.assertEquals(need.get(i).getCardNumber(), res.get(i).getCardNumber());
+                Assert.assertEquals(need.get(i).getRules(), res.get(i).getRules());
+            }
+        } finally {
+            CardImpl.USE_CACHED_CONSTRUCTORS = oldUseCached;
+        }
+    }
+
+    @Test
+    public void test_CachedConstructors_UnknownClass() {
+        Assert.assertNull(CardImpl.createCard("mage.cards.unknown.UnknownCard", null));
+        Assert.assertNull("non card class", CardImpl.createCard(String.class, null));
+    }
+
+    /**
+     * Cards scan creates cards in parallel, so card constructors and cards data must be same as in single thread
+     */
+    @Test
+    public void test_ParallelCardsCreationMustBeSameAsSerial() throws Exception {
+        final int MAX_CARDS = 2000;
+        List<CardSetInfo> cardsInfo = new ArrayList<>();
+        List<Class<?>> cardsClasses = new ArrayList<>();
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+                cardsInfo.add(new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()));
+                cardsClasses.add(setInfo.getCardClass());
+                if (cardsInfo.size() >= MAX_CARDS) {
+                    break;
+                }
+            }
+            if (cardsInfo.size() >= MAX_CARDS) {
+                break;
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < cardsInfo.size(); i++) {
+            indexes.add(i);
+        }
+
+        List<String> serialData = indexes.stream()
+                .map(i -> getCardData(cardsClasses.get(i), cardsInfo.get(i)))
+                .collect(Collectors.toList());
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        List<String> parallelData;
+        try {
+            parallelData = pool.submit(() -> indexes.parallelStream()
+                    .map(i -> getCardData(cardsClasses.get(i), cardsInfo.get(i)))
+                    .collect(Collectors.toList())
+            ).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertEquals(serialData.size(), parallelData.size());
+        for (int i = 0; i < serialData.size(); i++) {
+            Assert.assertEquals("parallel created card must be same as serial", serialData.get(i), parallelData.get(i));
+        }
+    }
+
+    private String getCardData(Class<?> cardClass, CardSetInfo setInfo) {
+        Card card = CardImpl.createCard(cardClass, setInfo);
+        if (card == null) {
+            return setInfo.getName() + ": null";
+        }
+        CardInfo cardInfo = new CardInfo(card);
+        return cardInfo.getName()
+                + ": " + cardInfo.getTypes()
+                + " " + cardInfo.getPower() + "/" + cardInfo.getToughness()
+                + " " + String.join("; ", cardInfo.getRules());
+    }
 }
@@ -1,14 +1,25 @@
 package org.mage.test.utils;
 
+import mage.Mana;
+import mage.abilities.mana.ActivatedManaAbilityImpl;
+import mage.abilities.mana.ManaFrontier;
 import mage.abilities.mana.ManaOptions;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.counters.CounterType;
+import mage.game.permanent.Permanent;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
 import static org.mage.test.utils.ManaOptionsTestUtils.assertManaOptions;
 
 /**
@@ -626,4 +637,122 @@ public class ManaOptionsTest extends CardTestPlayerBase {
 
         ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
     }
+
+    @Test
+    public void test_Frontier_MustIgnoreDominatedMana() {
+        ManaFrontier frontier = new ManaFrontier();
+        Assert.assertTrue(frontier.add(Mana.RedMana(1)));
+        Assert.assertTrue(frontier.add(Mana.GreenMana(2)));
+        Assert.assertFalse("same mana", frontier.add(Mana.RedMana(1)));
+
+        // {R}{G} dominates {R}
+        Mana redGreen = Mana.RedMana(1);
+        redGreen.increaseGreen();
+        Assert.assertTrue(frontier.add(redGreen));
+        Assert.assertFalse("dominated mana", frontier.add(new Mana()));
+
+        // {R}{R} can't be compared with {R}{G}
+        Assert.assertTrue(frontier.add(Mana.RedMana(2)));
+
+        List<Mana> res = frontier.getMana();
+        Assert.assertEquals(3, res.size());
+        Assert.assertEquals(Mana.GreenMana(2), res.get(0));
+        Assert.assertEquals(redGreen, res.get(1));
+        Assert.assertEquals(Mana.RedMana(2), res.get(2));
+    }
+
+    /**
+     * Dominated variations are removed while options are combined, final options must be same as
+     * full combinations with removeFullyIncludedVariations
+     */
+    @Test
+    public void test_DominatedVariations_MustKeepSameOptions_AddManaOptions() {
+        List<List<Mana>> sources = Arrays.asList(
+                Arrays.asList(Mana.GreenMana(1), mana(Mana.RedMana(1), Mana.WhiteMana(1))),
+                Arrays.asList(Mana.RedMana(1), Mana.GreenMana(1), Mana.WhiteMana(1)),
+                Arrays.asList(Mana.WhiteMana(1), Mana.BlueMana(1), Mana.BlackMana(1)),
+                Arrays.asList(Mana.ColorlessMana(1), Mana.GreenMana(2)),
+                Arrays.asList(mana(Mana.BlueMana(1), Mana.BlackMana(1)), Mana.RedMana(2), Mana.ColorlessMana(1)),
+                Arrays.asList(Mana.GreenMana(1), mana(Mana.RedMana(1), Mana.WhiteMana(1)))
+        );
+
+        ManaOptions manaOptions = new ManaOptions();
+        for (List<Mana> source : sources) {
+            ManaOptions sourceOptions = new ManaOptions();
+            source.forEach(mana -> sourceOptions.add(mana.copy()));
+            manaOptions.addMana(sourceOptions);
+        }
+        manaOptions.removeFullyIncludedVariations();
+
+        Assert.assertEquals(getFullCombinations(sources), getOptionsInfo(manaOptions));
+    }
+
+    /**
+     * Dominated variations are removed while options are combined, final options must be same as
+     * full combinations with removeFullyIncludedVariations
+     */
+    @Test
+    public void test_DominatedVariations_MustKeepSameOptions_Board() {
+        // {T}: Add {G}.
+        // {T}, Sacrifice Tinder Farm: Add {R}{W}.
+        addCard(Zone.BATTLEFIELD, playerA, "Tinder Farm", 1);
+        // {T}: Add {R}, {G}, or {W}.
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", 1);
+        // {T}: Add {W}, {U}, or {B}.
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 1);
+        // {T}: Add two mana in any combination of {U}, {B}, and/or {R}.
+        addCard(Zone.BATTLEFIELD, playerA, "Relic of Sauron", 2);
+
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+
+        // each source's mana without any optimizations
+        List<List<Mana>> fullSources = new ArrayList<>();
+        for (Permanent permanent : currentGame.getBattlefield().getAllActivePermanents(playerA.getId())) {
+            List<Mana> sourceMana = new ArrayList<>();
+            for (ActivatedManaAbilityImpl ability : permanent.getAbilities(currentGame)
+                    .getAvailableActivatedManaAbilities(Zone.BATTLEFIELD, playerA.getId(), currentGame)) {
+                sourceMana.addAll(ability.getNetMana(currentGame));
+            }
+            fullSources.add(sourceMana);
+        }
+        Assert.assertEquals(5, fullSources.size());
+        Assert.assertTrue("relic must have mana variations", fullSources.stream().anyMatch(sourceMana -> sourceMana.size() == 6));
+
+        Assert.assertEquals(getFullCombinations(fullSources), getOptionsInfo(manaOptions));
+    }
+
+    private static Mana mana(Mana mana1, Mana mana2) {
+        Mana res = mana1.copy();
+        res.add(mana2);
+        return res;
+    }
+
+    private static Set<String> getFullCombinations(List<List<Mana>> sources) {
+        ManaOptions res = new ManaOptions();
+        res.add(new Mana());
+        for (List<Mana> source : sources) {
+            List<Mana> copy = new ArrayList<>(res);
+            res.clear();
+            for (Mana sourceMana : source) {
+                for (Mana mana : copy) {
+                    Mana newMana = mana.copy();
+                    newMana.add(sourceMana);
+                    res.add(newMana);
+                }
+            }
+        }
+        res.removeFullyIncludedVariations();
+        res.remove(new Mana());
+        return getOptionsInfo(res);
+    }
+
+    private static Set<String> getOptionsInfo(ManaOptions manaOptions) {
+        return manaOptions.stream()
+                .map(Mana::toString)
+                .filter(info -> !info.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
 }
@@ -0,0 +1,100 @@
+package org.mage.test.utils;
+
+import mage.cards.Card;
+import mage.cards.RateCard;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.ColoredManaSymbol;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Precomputed card ratings must be same as direct calculations (draft bots)
+ */
+public class RateCardTest {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+    }
+
+    private static final List<String> cardNames = Arrays.asList(
+            "Lightning Bolt", // removal
+            "Grizzly Bears",
+            "Sol Ring",
+            "Forest", // basic land
+            "Boros Charm", // multicolor
+            "Fire // Ice", // split
+            "Phyrexian Obliterator" // heavy colored
+    );
+
+    private List<List<ColoredManaSymbol>> prepareColorsCombinations() {
+        List<List<ColoredManaSymbol>> res = new ArrayList<>();
+        res.add(null);
+        res.add(new ArrayList<>());
+        res.add(Arrays.asList(ColoredManaSymbol.R));
+        res.add(Arrays.asList(ColoredManaSymbol.B, ColoredManaSymbol.B));
+        res.add(Arrays.asList(ColoredManaSymbol.R, ColoredManaSymbol.W));
+        res.add(Arrays.asList(ColoredManaSymbol.U, ColoredManaSymbol.R, ColoredManaSymbol.O));
+        res.add(Arrays.asList(ColoredManaSymbol.W, ColoredManaSymbol.U, ColoredManaSymbol.B, ColoredManaSymbol.R, ColoredManaSymbol.G));
+        return res;
+    }
+
+    private List<Card> prepareCards() {
+        List<Card> res = new ArrayList<>();
+        for (String cardName : cardNames) {
+            Card card = CardRepository.instance.findCards(cardName).get(0).createCard();
+            Assert.assertNotNull(cardName, card);
+            res.add(card);
+        }
+        return res;
+    }
+
+    @Test
+    public void test_PrecomputedScores_MustBeSameAsCalculated() {
+        List<Card> cards = prepareCards();
+        for (Card card : cards) {
+            for (List<ColoredManaSymbol> colors : prepareColorsCombinations()) {
+                Assert.assertEquals(card.getName() + " - " + colors,
+                        RateCard.rateCard(card, colors, false),
+                        RateCard.rateCard(card, colors, true)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void test_PrecomputedScores_ParallelUsage() throws Exception {
+        List<Card> cards = prepareCards();
+        List<List<ColoredManaSymbol>> colorsList = prepareColorsCombinations();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                tasks.add(executor.submit(() -> {
+                    int res = 0;
+                    for (Card card : cards) {
+                        for (List<ColoredManaSymbol> colors : colorsList) {
+                            res += RateCard.rateCard(card, colors);
+                        }
+                    }
+                    return res;
+                }));
+            }
+            int need = tasks.get(0).get();
+            for (Future<Integer> task : tasks) {
+                Assert.assertEquals(need, (int) task.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1216,6 +1216,28 @@ public class VerifyCardDataTest {
                     Watcher w2 = w1.copy();
                     if (w2 == null) {
                         errorsList.add("Error: can't copy watcher with unknown error, look at error logs above: " + watcherClass.getName());
+                    } else {
+                        // fast copy must be same as reflection copy
+                        Watcher w3 = w1.copyByReflection();
+                        if (w3 == null || w2.getClass() != w3.getClass()) {
+                            errorsList.add("Error: fast copy and reflection copy have different results: " + watcherClass.getName());
+                        } else {
+                            List<Field> fields = new ArrayList<>(Arrays.asList(watcherClass.getDeclaredFields()));
+                            fields.addAll(Arrays.asList(Watcher.class.getDeclaredFields()));
+                            for (Field field : fields) {
+                                if (Modifier.isStatic(field.getModifiers())) {
+                                    continue;
+                                }
+                                field.setAccessible(true);
+                                Object sourceValue = field.get(w1);
+                                Object fastValue = field.get(w2);
+                                if (!Objects.deepEquals(fastValue, field.get(w3))) {
+                                    errorsList.add("Error: fast copy has wrong field value: " + watcherClass.getName() + "." + field.getName());
+                                } else if (sourceValue != null && sourceValue == fastValue && !CardUtil.isImmutableObject(sourceValue)) {
+                                    errorsList.add("Error: fast copy must use deep copy for field: " + watcherClass.getName() + "." + field.getName());
+                                }
+                            }
+                        }
                     }
                 } catch (Exception e) {
                     errorsList.add("Error: can't copy watcher: " + watcherClass.getName() + " (" + e.getMessage() + ")");
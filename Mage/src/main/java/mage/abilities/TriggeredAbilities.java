@@ -9,6 +9,7 @@ import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
 import mage.util.CardUtil;
 import mage.util.Copyable;
+import mage.util.DebugUtil;
 import org.apache.log4j.Logger;
 
 import java.util.*;
@@ -21,9 +22,27 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     private static final Logger logger = Logger.getLogger(TriggeredAbilities.class);
 
+    // triggers with known event types (declared in the same class as checkEventType), see TriggeredAbility.getTriggerEventTypes
+    private static final ClassValue<Boolean> supportedEventTypes = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> checkClass = type.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+                Class<?> typesClass = type.getMethod("getTriggerEventTypes").getDeclaringClass();
+                return checkClass.isAssignableFrom(typesClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
-    // data integrity check for triggers
+    // fast triggers search: event type -> all triggers that can be used by it (in triggers order),
+    // rebuilds on demand after any triggers change
+    private transient Map<GameEvent.EventType, TriggeredAbility[]> eventTypeIndex = null;
+
+    // data integrity check for triggers (debug only, see DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS)
     // reason: game engine can generate additional events and triggers while checking another one,
     // it can generate multiple bugs, freeze, etc, see https://github.com/magefree/mage/issues/8426
     // all checks can be catches by existing tests
@@ -33,6 +52,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     private boolean enableIntegrityCheck4_EventMustProcessAllOldTriggers = true; // good
     private boolean enableIntegrityCheck5_EventMustProcessInSameOrder = true; // good
     private boolean enableIntegrityCheck6_EventMustNotProcessNewTriggers = false; // bad, impossible to fix due dynamic triggers gen
+    private boolean enableIntegrityCheck7_EventMustFindAllTriggers = true; // good, event type index must be same as checkEventType
     private boolean enableIntegrityLogs = false; // debug only
     private boolean processingStarted = false;
     private GameEvent.EventType processingStartedEvent = null; // null for game state triggers
@@ -58,6 +78,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         this.enableIntegrityCheck4_EventMustProcessAllOldTriggers = abilities.enableIntegrityCheck4_EventMustProcessAllOldTriggers;
         this.enableIntegrityCheck5_EventMustProcessInSameOrder = abilities.enableIntegrityCheck5_EventMustProcessInSameOrder;
         this.enableIntegrityCheck6_EventMustNotProcessNewTriggers = abilities.enableIntegrityCheck6_EventMustNotProcessNewTriggers;
+        this.enableIntegrityCheck7_EventMustFindAllTriggers = abilities.enableIntegrityCheck7_EventMustFindAllTriggers;
 
         this.enableIntegrityLogs = abilities.enableIntegrityLogs;
         this.processingStarted = abilities.processingStarted;
@@ -66,7 +87,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         this.processingDone = CardUtil.deepCopyObject(abilities.processingDone);
 
         // runtime check: triggers order (not required by paper rules, by required by xmage to make same result for all game instances)
-        if (this.enableIntegrityCheck1_MustKeepSameTriggersOrder) {
+        if (DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS && this.enableIntegrityCheck1_MustKeepSameTriggersOrder) {
             if (!Objects.equals(this.values().stream().findFirst().orElse(null) + "",
                     abilities.values().stream().findFirst().orElse(null) + "")) {
                 // how-to fix: use LinkedHashMap instead HashMap/ConcurrentHashMap
@@ -78,7 +99,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     public void checkStateTriggers(Game game) {
         makeSureNotProcessing(null);
 
-        processingStart(null);
+        processingStart(null, this.values());
         boolean needErrorChecksOnEnd = true;
         try {
             for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
@@ -98,10 +119,14 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        processingStart(event);
-        boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        // index returns a snapshot, so new triggers from the processing will be ignored
+        TriggeredAbility[] currentTriggers = findTriggers(event.getType());
+        processingStart(event, Arrays.asList(currentTriggers));
+        if (DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS && this.enableIntegrityCheck7_EventMustFindAllTriggers) {
+            checkEventTypeIndex(currentTriggers, event, game);
+        }
+        boolean needErrorChecksOnEnd = true;
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -130,22 +155,64 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
-    private void processingStart(GameEvent newEvent) {
+    /**
+     * Find all triggers that can be used by the event type (same order as triggers list)
+     */
+    private TriggeredAbility[] findTriggers(GameEvent.EventType eventType) {
+        if (this.eventTypeIndex == null) {
+            this.eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        TriggeredAbility[] res = this.eventTypeIndex.get(eventType);
+        if (res == null) {
+            List<TriggeredAbility> found = new ArrayList<>();
+            for (TriggeredAbility ability : this.values()) {
+                Set<GameEvent.EventType> eventTypes = supportedEventTypes.get(ability.getClass()) ? ability.getTriggerEventTypes() : null;
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    found.add(ability);
+                }
+            }
+            res = found.toArray(new TriggeredAbility[0]);
+            this.eventTypeIndex.put(eventType, res);
+        }
+        return res;
+    }
+
+    private void checkEventTypeIndex(TriggeredAbility[] foundTriggers, GameEvent event, Game game) {
+        Set<TriggeredAbility> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        found.addAll(Arrays.asList(foundTriggers));
+        for (TriggeredAbility ability : this.values()) {
+            if (!found.contains(ability) && ability.checkEventType(event, game)) {
+                // how-to fix: getTriggerEventTypes must return all event types from checkEventType
+                throw new IllegalArgumentException("Triggers integrity failed: event type index miss the trigger - "
+                        + event.getType() + ", " + ability.getClass().getName() + ", " + ability);
+            }
+        }
+    }
+
+    private void invalidateEventTypeIndex() {
+        this.eventTypeIndex = null;
+    }
+
+    private void processingStart(GameEvent newEvent, Collection<TriggeredAbility> needTriggers) {
         makeSureNotProcessing(newEvent);
 
         this.processingStarted = true;
         this.processingStartedEvent = newEvent == null ? null : newEvent.getType();
-        this.processingNeed.clear();
-        this.processingNeed.addAll(this.values());
-        this.processingDone.clear();
+        if (DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS) {
+            this.processingNeed.clear();
+            this.processingNeed.addAll(needTriggers);
+            this.processingDone.clear();
+        }
     }
 
     private void processingDone(TriggeredAbility trigger) {
-        this.processingDone.add(trigger);
+        if (DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS) {
+            this.processingDone.add(trigger);
+        }
     }
 
     private void processingEnd(boolean needErrorChecks) {
-        if (needErrorChecks) {
+        if (needErrorChecks && DebugUtil.GAME_TRIGGERS_INTEGRITY_CHECKS) {
             if (this.enableIntegrityCheck3_CantStartEventProcessingBeforeFinishPrev
                     && !this.processingStarted) {
                 throw new IllegalArgumentException("Triggers integrity failed: can't finish event before start");
@@ -294,11 +361,15 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        if (keySet().removeIf(key -> key.endsWith(sourceId.toString()))) {
+            invalidateEventTypeIndex();
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        if (this.keySet().removeAll(sources.keySet())) {
+            invalidateEventTypeIndex();
+        }
         sources.clear();
     }
 
@@ -308,9 +379,35 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
+        if (entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
                 && game.getState().getInherentEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))) {
+            invalidateEventTypeIndex();
+        }
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility value) {
+        invalidateEventTypeIndex();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends TriggeredAbility> m) {
+        invalidateEventTypeIndex();
+        super.putAll(m);
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        invalidateEventTypeIndex();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidateEventTypeIndex();
+        super.clear();
     }
 
     @Override
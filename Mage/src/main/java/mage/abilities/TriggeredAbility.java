@@ -4,6 +4,7 @@ package mage.abilities;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,6 +21,16 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Event types for fast triggers search (index by event type), must be same as {@link #checkEventType(GameEvent, Game)}.
+     * It's used only if declared in the same class as checkEventType or in its child class.
+     *
+     * @return null on unknown types (ability will be checked on each event)
+     */
+    default Set<GameEvent.EventType> getTriggerEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
@@ -8,6 +8,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,6 +17,8 @@ import java.util.UUID;
  */
 public class AttacksTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS);
+
     protected final String text;
     protected final SetTargetPointer setTargetPointer;
 
@@ -49,6 +53,11 @@ public class AttacksTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!game.getCombat().getAttackers().contains(this.getSourceId())) {
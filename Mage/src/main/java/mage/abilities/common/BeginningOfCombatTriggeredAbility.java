@@ -8,8 +8,13 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE);
+
     private final TargetController targetController;
     private final boolean setTargetPointer;
 
@@ -40,6 +45,11 @@ public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.BEGIN_COMBAT_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -10,8 +10,13 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+
     private final TargetController targetController;
     private final Condition interveningIfClauseCondition;
 
@@ -46,6 +51,11 @@ public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -9,11 +9,16 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Loki
  */
 public class BeginningOfUpkeepTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+
     private final TargetController targetController;
     private final boolean setTargetPointer;
     protected String ruleTrigger;
@@ -55,6 +60,11 @@ public class BeginningOfUpkeepTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         switch (targetController) {
@@ -8,11 +8,16 @@ import mage.game.events.DamagedEvent;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public class DealsCombatDamageToAPlayerTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+
     protected final boolean setTargetPointer;
 
     public DealsCombatDamageToAPlayerTriggeredAbility(Effect effect) {
@@ -45,6 +50,11 @@ public class DealsCombatDamageToAPlayerTriggeredAbility extends TriggeredAbility
         return event.getType() == GameEvent.EventType.DAMAGED_PLAYER;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getSourceId().equals(getSourceId())
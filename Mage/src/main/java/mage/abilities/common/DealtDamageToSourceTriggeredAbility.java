@@ -8,11 +8,16 @@ import mage.game.Game;
 import mage.game.events.DamagedBatchForPermanentsEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
 public class DealtDamageToSourceTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS);
+
     public DealtDamageToSourceTriggeredAbility(Effect effect, boolean optional) {
         this(effect, optional, false);
     }
@@ -40,6 +45,11 @@ public class DealtDamageToSourceTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         DamagedBatchForPermanentsEvent dEvent = (DamagedBatchForPermanentsEvent) event;
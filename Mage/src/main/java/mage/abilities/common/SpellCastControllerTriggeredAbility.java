@@ -11,11 +11,16 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North, Susucr
  */
 public class SpellCastControllerTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.SPELL_CAST);
+
     protected final FilterSpell filter;
 
     // If either the cast spell or the card must be set as TargetPointer of effects.
@@ -69,6 +74,11 @@ public class SpellCastControllerTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!event.getPlayerId().equals(this.getControllerId())) {
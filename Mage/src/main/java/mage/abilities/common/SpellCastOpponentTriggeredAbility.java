@@ -11,11 +11,16 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public class SpellCastOpponentTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.SPELL_CAST);
+
     protected FilterSpell filter;
     protected SetTargetPointer setTargetPointer;
     private final boolean onlyFromNonHand;
@@ -79,6 +84,11 @@ public class SpellCastOpponentTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!game.getPlayer(this.getControllerId()).hasOpponent(event.getPlayerId(), game)) {
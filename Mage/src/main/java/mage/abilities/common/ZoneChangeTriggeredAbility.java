@@ -9,6 +9,9 @@ import mage.game.events.GameEvent.EventType;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Is applied when the {@link Permanent} with this ability instance changes
  * zones.
@@ -17,6 +20,8 @@ import mage.game.permanent.Permanent;
  */
 public class ZoneChangeTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> triggerEventTypes = EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+
     protected final Zone fromZone;
     protected final Zone toZone;
 
@@ -52,6 +57,11 @@ public class ZoneChangeTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return triggerEventTypes;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (event.getTargetId().equals(this.getSourceId())) {
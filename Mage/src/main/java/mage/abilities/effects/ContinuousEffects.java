@@ -22,6 +22,8 @@ import mage.game.stack.Spell;
 import mage.players.ManaPoolItem;
 import mage.players.Player;
 import mage.target.common.TargetCardInHand;
+import mage.util.Copyable;
+import mage.util.DebugUtil;
 import mage.util.trace.TraceInfo;
 import org.apache.log4j.Logger;
 
@@ -33,7 +35,7 @@ import java.util.stream.Collectors;
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class ContinuousEffects implements Serializable {
+public class ContinuousEffects implements Serializable, Copyable<ContinuousEffects> {
 
     private static final Logger logger = Logger.getLogger(ContinuousEffects.class);
 
@@ -101,6 +103,7 @@ public class ContinuousEffects implements Serializable {
         }
     }
 
+    @Override
     public ContinuousEffects copy() {
         return new ContinuousEffects(this);
     }
@@ -341,8 +344,7 @@ public class ContinuousEffects implements Serializable {
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (Iterator<ReplacementEffect> iterator = replacementEffects.iterator(); iterator.hasNext(); ) {
-            ReplacementEffect effect = iterator.next();
+        for (ReplacementEffect effect : findReplacementEffects(replacementEffects, event, game)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -374,8 +376,7 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        for (Iterator<PreventionEffect> iterator = preventionEffects.iterator(); iterator.hasNext(); ) {
-            PreventionEffect effect = iterator.next();
+        for (PreventionEffect effect : findReplacementEffects(preventionEffects, event, game)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -403,6 +404,20 @@ public class ContinuousEffects implements Serializable {
         return replaceEffects;
     }
 
+    private <T extends ReplacementEffect> List<T> findReplacementEffects(ContinuousEffectsList<T> effects, GameEvent event, Game game) {
+        List<T> res = effects.getEffectsByEventType(event.getType());
+        if (DebugUtil.GAME_REPLACEMENT_EFFECTS_INDEX_CHECKS) {
+            // effect with wrong declared event types will be ignored by the game, so find it here
+            for (T effect : effects) {
+                if (effect.checksEventType(event, game) && !res.contains(effect)) {
+                    throw new IllegalStateException("Wrong code usage: replacement effect " + effect.getClass().getName()
+                            + " must declare event type " + event.getType() + " in getReplaceEventTypes");
+                }
+            }
+        }
+        return res;
+    }
+
     private boolean checkAbilityStillExists(Ability ability, ContinuousEffect effect, GameEvent event, Game game) {
         switch (effect.getDuration()) { // effects with fixed duration don't need an object with the source ability (e.g. a silence cast with isochronic Scepter has no more a card object
             case EndOfCombat:
@@ -1187,6 +1202,20 @@ public class ContinuousEffects implements Serializable {
         }
     }
 
+    /**
+     * Layered effects version for incremental effects apply, see {@link GameState#applyEffects(Game)}
+     * (any added, removed or discarded effect changes it)
+     */
+    public synchronized long getLayeredEffectsVersion() {
+        long res = layeredEffects.size();
+        for (ContinuousEffect effect : layeredEffects) {
+            res = res * 31 + effect.getId().hashCode();
+            res = res * 31 + layeredEffects.getAbility(effect.getId()).size();
+            res = res * 31 + (effect.isDiscarded() ? 1 : 0);
+        }
+        return res;
+    }
+
     private void applyContinuousEffect(ContinuousEffect effect, Layer currentLayer, Game game) {
         Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
         for (Ability ability : abilities) {
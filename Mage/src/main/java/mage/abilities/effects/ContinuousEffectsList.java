@@ -7,6 +7,7 @@ import mage.cards.Card;
 import mage.constants.Duration;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import org.apache.log4j.Logger;
@@ -21,9 +22,28 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
 
     private static final Logger logger = Logger.getLogger(ContinuousEffectsList.class);
 
+    // replacement effects with known event types (declared in the same class as checksEventType), see ReplacementEffect.getReplaceEventTypes
+    private static final ClassValue<Boolean> supportedEventTypes = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> checkClass = type.getMethod("checksEventType", GameEvent.class, Game.class).getDeclaringClass();
+                Class<?> typesClass = type.getMethod("getReplaceEventTypes").getDeclaringClass();
+                return checkClass.isAssignableFrom(typesClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, Set<Ability>> effectAbilityMap = new HashMap<>();
 
+    // fast replacement effects search: event type -> all effects that can be used by it (in list order),
+    // rebuilds on demand after any list changes (add, remove, clear, etc)
+    private transient Map<GameEvent.EventType, List<T>> eventTypeIndex = null;
+    private transient int eventTypeIndexModCount = 0;
+
     public ContinuousEffectsList() {
     }
 
@@ -211,6 +231,32 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         this.add(effect);
     }
 
+    /**
+     * Replacement and prevention effects that can be used by the event type (in list order),
+     * other effects will be returned for any event type
+     */
+    public List<T> getEffectsByEventType(GameEvent.EventType eventType) {
+        if (this.eventTypeIndex == null || this.eventTypeIndexModCount != this.modCount) {
+            this.eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+            this.eventTypeIndexModCount = this.modCount;
+        }
+        List<T> res = this.eventTypeIndex.get(eventType);
+        if (res == null) {
+            res = new ArrayList<>();
+            for (T effect : this) {
+                Set<GameEvent.EventType> eventTypes = null;
+                if (effect instanceof ReplacementEffect && supportedEventTypes.get(effect.getClass())) {
+                    eventTypes = ((ReplacementEffect) effect).getReplaceEventTypes();
+                }
+                if (eventTypes == null || eventTypes.contains(eventType)) {
+                    res.add(effect);
+                }
+            }
+            this.eventTypeIndex.put(eventType, res);
+        }
+        return res;
+    }
+
     public Set<Ability> getAbility(UUID effectId) {
         return effectAbilityMap.computeIfAbsent(effectId, x -> new HashSet<>());
     }
@@ -14,11 +14,19 @@ import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 import mage.players.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public class EntersBattlefieldEffect extends ReplacementEffectImpl {
 
+    private static final Set<EventType> replaceEventTypesOther = EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    private static final Set<EventType> replaceEventTypesSelf = EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD_SELF);
+    private static final Set<EventType> replaceEventTypesControl = EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD_CONTROL);
+    private static final Set<EventType> replaceEventTypesCopy = EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD_COPY);
+
     private final Effects baseEffects;
     private final String text;
     private final Condition condition;
@@ -66,6 +74,21 @@ public class EntersBattlefieldEffect extends ReplacementEffectImpl {
         baseEffects.add(effect);
     }
 
+    @Override
+    public Set<EventType> getReplaceEventTypes() {
+        switch (enterEventType) {
+            case OTHER:
+                return replaceEventTypesOther;
+            case SELF:
+                return replaceEventTypesSelf;
+            case CONTROL:
+                return replaceEventTypesControl;
+            case COPY:
+                return replaceEventTypesCopy;
+        }
+        return null;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (enterEventType) {
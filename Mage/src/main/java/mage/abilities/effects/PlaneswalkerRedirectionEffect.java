@@ -1,7 +1,9 @@
 
 package mage.abilities.effects;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.Ability;
@@ -25,6 +27,8 @@ import mage.target.TargetPermanent;
 @Deprecated
 public class PlaneswalkerRedirectionEffect extends RedirectionEffect {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.DAMAGE_PLAYER);
+
     public PlaneswalkerRedirectionEffect() {
         super(Duration.EndOfGame);
     }
@@ -38,6 +42,11 @@ public class PlaneswalkerRedirectionEffect extends RedirectionEffect {
         return new PlaneswalkerRedirectionEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DAMAGE_PLAYER;
@@ -10,11 +10,16 @@ import mage.game.Game;
 import mage.game.events.DamageEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public abstract class PreventionEffectImpl extends ReplacementEffectImpl implements PreventionEffect {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER);
+
     protected DynamicValue amountToPreventDynamic;
     protected int amountToPrevent;
     protected final boolean onlyCombat;
@@ -85,6 +90,11 @@ public abstract class PreventionEffectImpl extends ReplacementEffectImpl impleme
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (event.getType()) {
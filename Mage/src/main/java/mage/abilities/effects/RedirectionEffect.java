@@ -12,11 +12,16 @@ import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.Target;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public abstract class RedirectionEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER);
+
     public enum UsageType {
         ACCORDING_DURATION,
         ONE_USAGE_ABSOLUTE,
@@ -48,6 +53,11 @@ public abstract class RedirectionEffect extends ReplacementEffectImpl {
         this.applyEffectsCounter = effect.applyEffectsCounter;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -4,6 +4,8 @@ import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
+
 /**
  *
  * @author BetaSteward_at_googlemail.com
@@ -22,6 +24,16 @@ public interface ReplacementEffect extends ContinuousEffect {
      */
     boolean checksEventType(GameEvent event, Game game);
 
+    /**
+     * Event types for fast effects search (index by event type), must be same as {@link #checksEventType(GameEvent, Game)}.
+     * It's used only if declared in the same class as checksEventType or in its child class.
+     *
+     * @return null on unknown types (effect will be checked on each event)
+     */
+    default Set<GameEvent.EventType> getReplaceEventTypes() {
+        return null;
+    }
+
     boolean applies(GameEvent event, Ability source, Game game);
 
     boolean hasSelfScope();
@@ -11,11 +11,16 @@ import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Eirkei
  */
 public class PermanentsEnterBattlefieldTappedEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+
     protected final FilterPermanent filter;
 
     public PermanentsEnterBattlefieldTappedEffect(FilterPermanent filter) {
@@ -41,6 +46,11 @@ public class PermanentsEnterBattlefieldTappedEffect extends ReplacementEffectImp
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
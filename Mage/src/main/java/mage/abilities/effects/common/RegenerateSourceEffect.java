@@ -11,6 +11,8 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.util.CardUtil;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,6 +20,8 @@ import java.util.UUID;
  */
 public class RegenerateSourceEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT, GameEvent.EventType.ZONE_CHANGE);
+
     public RegenerateSourceEffect() {
         this("{this}");
     }
@@ -55,6 +59,11 @@ public class RegenerateSourceEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DESTROY_PERMANENT
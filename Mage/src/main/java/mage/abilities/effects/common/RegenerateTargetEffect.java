@@ -10,11 +10,16 @@ import mage.game.events.GameEvent;
 import mage.game.events.GameEvent.EventType;
 import mage.game.permanent.Permanent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author maurer.it_at_gmail.com
  */
 public class RegenerateTargetEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT);
+
     public RegenerateTargetEffect() {
         super(Duration.EndOfTurn, Outcome.Regenerate);
     }
@@ -45,6 +50,11 @@ public class RegenerateTargetEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return EventType.DESTROY_PERMANENT == event.getType();
@@ -1,6 +1,8 @@
 package mage.abilities.effects.common.continuous;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.abilities.Ability;
@@ -38,6 +40,8 @@ import mage.players.Player;
 // Oathbreaker mode: If your Oathbreaker changes zones, you may return it to the Command Zone. The Signature Spell must return to the Command Zone.
 public class CommanderReplacementEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+
     private final UUID commanderId;
     private final boolean alsoHand; // return from hand to command zone
     private final boolean alsoLibrary; // return from library to command zone
@@ -93,6 +97,11 @@ public class CommanderReplacementEffect extends ReplacementEffectImpl {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
@@ -9,11 +9,16 @@ import mage.game.Game;
 import mage.game.events.CreateTokenEvent;
 import mage.game.events.GameEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
 public class CreateTwiceThatManyTokensEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.CREATE_TOKEN);
+
     public CreateTwiceThatManyTokensEffect() {
         this(Duration.WhileOnBattlefield);
     }
@@ -31,6 +36,11 @@ public class CreateTwiceThatManyTokensEffect extends ReplacementEffectImpl {
         return new CreateTwiceThatManyTokensEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CREATE_TOKEN;
@@ -9,11 +9,16 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author xenohedron
  */
 public class LeaveBattlefieldExileTargetReplacementEffect extends ReplacementEffectImpl {
 
+    private static final Set<GameEvent.EventType> replaceEventTypes = EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+
     public LeaveBattlefieldExileTargetReplacementEffect(String description) {
         super(Duration.OneUse, Outcome.Exile);
         staticText = "If " + description + " would leave the battlefield, exile it instead of putting it anywhere else";
@@ -28,6 +33,11 @@ public class LeaveBattlefieldExileTargetReplacementEffect extends ReplacementEff
         return new LeaveBattlefieldExileTargetReplacementEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getReplaceEventTypes() {
+        return replaceEventTypes;
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
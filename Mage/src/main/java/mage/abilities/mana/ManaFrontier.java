@@ -0,0 +1,160 @@
+package mage.abilities.mana;
+
+import mage.Mana;
+
+import java.util.*;
+
+/**
+ * Mana options without dominated variations (pareto frontier), used to build {@link ManaOptions} combinations.
+ * <p>
+ * Each normal mana keeps as compact vector (W, U, B, R, G, C, generic, any). New mana will be ignored
+ * if some existing mana has same or more of each type, and all existing mana with same or less of each type
+ * will be removed by the new mana. So {R} and {R}{G} will be kept as {R}{G} only, but {R}{R} and {R}{G}
+ * will be kept as is (it's not possible to compare colors).
+ * <p>
+ * Dominated mana can't have same total amount, so it compares mana with different totals only
+ * (boards with many same sources like tri-lands will not use comparisons at all).
+ * <p>
+ * Special mana (conditional, flagged, etc) can't be compared and keeps as is.
+ */
+public final class ManaFrontier {
+
+    private final List<Entry> entries = new ArrayList<>(); // insert order, can contain removed entries
+    private final Map<Vector, Entry> vectors = new HashMap<>();
+    private final TreeMap<Long, List<Entry>> totals = new TreeMap<>(); // total amount -> entries
+    private final Set<Mana> specialMana = new HashSet<>();
+    private int removedCount = 0;
+
+    /**
+     * @return false if mana was ignored (same or dominated by existing mana)
+     */
+    public boolean add(Mana mana) {
+        if (mana.getClass() != Mana.class || mana.getFlag()) {
+            if (!specialMana.add(mana)) {
+                return false;
+            }
+            entries.add(new Entry(mana, null));
+            return true;
+        }
+
+        Vector vector = new Vector(mana);
+        if (vectors.containsKey(vector)) {
+            return false;
+        }
+
+        // dominated by existing
+        for (List<Entry> list : totals.tailMap(vector.total, false).values()) {
+            for (Entry entry : list) {
+                if (entry.vector.includes(vector)) {
+                    return false;
+                }
+            }
+        }
+
+        // dominates existing
+        for (Iterator<List<Entry>> it = totals.headMap(vector.total, false).values().iterator(); it.hasNext(); ) {
+            List<Entry> list = it.next();
+            list.removeIf(entry -> {
+                if (vector.includes(entry.vector)) {
+                    entry.removed = true;
+                    vectors.remove(entry.vector);
+                    removedCount++;
+                    return true;
+                }
+                return false;
+            });
+            if (list.isEmpty()) {
+                it.remove();
+            }
+        }
+
+        Entry entry = new Entry(mana, vector);
+        entries.add(entry);
+        vectors.put(vector, entry);
+        totals.computeIfAbsent(vector.total, k -> new ArrayList<>()).add(entry);
+        return true;
+    }
+
+    public int size() {
+        return entries.size() - removedCount;
+    }
+
+    /**
+     * All kept mana in insert order
+     */
+    public List<Mana> getMana() {
+        List<Mana> res = new ArrayList<>(size());
+        for (Entry entry : entries) {
+            if (!entry.removed) {
+                res.add(entry.mana);
+            }
+        }
+        return res;
+    }
+
+    private static final class Entry {
+
+        private final Mana mana;
+        private final Vector vector; // null for special mana
+        private boolean removed = false;
+
+        private Entry(Mana mana, Vector vector) {
+            this.mana = mana;
+            this.vector = vector;
+        }
+    }
+
+    /**
+     * Compact mana amounts: W, U, B, R, G, C, generic, any
+     */
+    static final class Vector {
+
+        private final int[] amounts;
+        private final long total;
+        private final int hash;
+
+        Vector(Mana mana) {
+            this.amounts = new int[]{
+                    mana.getWhite(),
+                    mana.getBlue(),
+                    mana.getBlack(),
+                    mana.getRed(),
+                    mana.getGreen(),
+                    mana.getColorless(),
+                    mana.getGeneric(),
+                    mana.getAny()
+            };
+            long sum = 0;
+            for (int amount : amounts) {
+                sum += amount;
+            }
+            this.total = sum;
+            this.hash = Arrays.hashCode(amounts);
+        }
+
+        /**
+         * Has same or more of each mana type
+         */
+        boolean includes(Vector vector) {
+            for (int i = 0; i < amounts.length; i++) {
+                if (this.amounts[i] < vector.amounts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Vector vector = (Vector) o;
+            return this.hash == vector.hash && Arrays.equals(this.amounts, vector.amounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -62,6 +62,8 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             //perform a union of all existing options and the new options
             List<Mana> copy = new ArrayList<>(this);
             this.clear();
+            // fast search of same mana (many sources of same type generate same mana in different order)
+            Set<ManaFrontier.Vector> existingValues = new HashSet<>();
             for (ActivatedManaAbilityImpl ability : abilities) {
                 for (Mana netMana : ability.getNetMana(game)) {
                     checkManaReplacementAndTriggeredMana(ability, game, netMana);
@@ -71,6 +73,9 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(triggeredManaVariation);
+                            if (existingValues.contains(new ManaFrontier.Vector(newMana))) {
+                                continue;
+                            }
                             for (Mana existingMana : this) {
                                 if (existingMana.equalManaValue(newMana)) {
                                     continue SkipAddMana;
@@ -78,11 +83,14 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                                 Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
                                 if (moreValuable != null) {
                                     // only keep the more valuable mana
+                                    existingValues.remove(new ManaFrontier.Vector(existingMana));
                                     existingMana.setToMana(moreValuable);
+                                    existingValues.add(new ManaFrontier.Vector(existingMana));
                                     continue SkipAddMana;
                                 }
                             }
                             this.add(newMana);
+                            existingValues.add(new ManaFrontier.Vector(newMana));
                         }
                     }
 
@@ -96,15 +104,17 @@ public class ManaOptions extends LinkedHashSet<Mana> {
 
         List<Mana> copy = new ArrayList<>(this);
         this.clear();
+        ManaFrontier frontier = new ManaFrontier();
         for (Mana netMana : netManas) {
             for (Mana mana : copy) {
                 if (!ability.hasTapCost() || checkManaReplacementAndTriggeredMana(ability, game, netMana)) {
                     newMana = mana.copy();
                     newMana.add(netMana);
-                    this.add(newMana);
+                    frontier.add(newMana);
                 }
             }
         }
+        this.addAll(frontier.getMana());
     }
 
     private static List<List<Mana>> getSimulatedTriggeredManaFromPlayer(Game game, Ability ability) {
@@ -358,15 +368,18 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                 addMana(options.getAtIndex(0));
             } else {
                 //perform a union of all existing options and the new options
+                //(dominated variations are useless, so ignore it to keep options size small)
                 List<Mana> copy = new ArrayList<>(this);
                 this.clear();
+                ManaFrontier frontier = new ManaFrontier();
                 for (Mana addMana : options) {
                     for (Mana mana : copy) {
                         Mana newMana = mana.copy();
                         newMana.add(addMana);
-                        this.add(newMana);
+                        frontier.add(newMana);
                     }
                 }
+                this.addAll(frontier.getMana());
             }
         }
     }
@@ -518,25 +531,8 @@ public class ManaOptions extends LinkedHashSet<Mana> {
      * E.g. If both {R} and {R}{W} are in this, then {R} will be removed.
      */
     public void removeFullyIncludedVariations() {
+        // duplicated mana will be removed on set rebuild (no needs in text compare)
         List<Mana> that = new ArrayList<>(this);
-        Set<String> list = new HashSet<>();
-
-        for (int i = this.size() - 1; i >= 0; i--) {
-            String s;
-            if (that.get(i) instanceof ConditionalMana) {
-                s = that.get(i).toString() + ((ConditionalMana) that.get(i)).getConditionString();
-            } else {
-                s = that.get(i).toString();
-            }
-            if (s.isEmpty()) {
-                this.remove(i);
-            } else if (list.contains(s)) {
-                // remove duplicated
-                this.remove(i);
-            } else {
-                list.add(s);
-            }
-        }
 
         // Remove fully included variations
         for (int i = this.size() - 1; i >= 0; i--) {
@@ -0,0 +1,53 @@
+package mage.cards;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.UUID;
+
+/**
+ * Prepared card's constructors without reflection lookups on each card creation (see CardImpl.createCard).
+ * Must be same as reflection code: public constructor (UUID ownerId, CardSetInfo setInfo) or (UUID ownerId)
+ */
+final class CardConstructor {
+
+    private final MethodHandle withSetInfo; // (UUID, CardSetInfo) -> Card, null on unsupported class
+    private final MethodHandle withoutSetInfo; // (UUID) -> Card, null on unsupported class
+
+    private CardConstructor(MethodHandle withSetInfo, MethodHandle withoutSetInfo) {
+        this.withSetInfo = withSetInfo;
+        this.withoutSetInfo = withoutSetInfo;
+    }
+
+    static CardConstructor create(Class<?> cardClass) {
+        return new CardConstructor(
+                findConstructor(cardClass, MethodType.methodType(void.class, UUID.class, CardSetInfo.class)),
+                findConstructor(cardClass, MethodType.methodType(void.class, UUID.class))
+        );
+    }
+
+    private static MethodHandle findConstructor(Class<?> cardClass, MethodType type) {
+        if (!Card.class.isAssignableFrom(cardClass)) {
+            return null;
+        }
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findConstructor(cardClass, type);
+            return handle.asType(type.changeReturnType(Card.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // unsupported class, reflection will be used to generate same errors
+            return null;
+        }
+    }
+
+    boolean isSupported(boolean needSetInfo) {
+        return (needSetInfo ? withSetInfo : withoutSetInfo) != null;
+    }
+
+    Card create(UUID ownerId, CardSetInfo setInfo) throws Throwable {
+        if (setInfo == null) {
+            return (Card) withoutSetInfo.invokeExact(ownerId);
+        } else {
+            return (Card) withSetInfo.invokeExact(ownerId, setInfo);
+        }
+    }
+}
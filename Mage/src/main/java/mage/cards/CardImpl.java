@@ -30,9 +30,11 @@ import mage.util.ManaUtil;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class CardImpl extends MageObjectImpl implements Card {
 
@@ -40,6 +42,17 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     private static final Logger logger = Logger.getLogger(CardImpl.class);
 
+    // cards creation without reflection lookups (e.g. for decks and boosters generation)
+    public static boolean USE_CACHED_CONSTRUCTORS = true;
+    // class name -> class, weak refs don't keep classes of unloaded plugins (constructors are stored in classes itself)
+    private static final Map<String, WeakReference<Class<?>>> cardClassesCache = new ConcurrentHashMap<>();
+    private static final ClassValue<CardConstructor> cardConstructors = new ClassValue<CardConstructor>() {
+        @Override
+        protected CardConstructor computeValue(Class<?> type) {
+            return CardConstructor.create(type);
+        }
+    };
+
     protected UUID ownerId;
     protected Rarity rarity;
     protected Class<? extends Card> secondSideCardClazz;
@@ -163,17 +176,26 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     }
 
     public static Card createCard(String name, CardSetInfo setInfo) {
+        WeakReference<Class<?>> cachedClazz = cardClassesCache.get(name);
+        Class<?> clazz = cachedClazz == null ? null : cachedClazz.get();
+        if (clazz != null) {
+            return createCard(clazz, setInfo);
+        }
         try {
-            return createCard(Class.forName(name), setInfo);
+            clazz = Class.forName(name);
         } catch (ClassNotFoundException ex) {
             try {
-                return createCard(PluginClassloaderRegistery.forName(name), setInfo);
+                clazz = PluginClassloaderRegistery.forName(name);
             } catch (ClassNotFoundException ex2) {
                 // ignored
             }
-            logger.fatal("Error loading card: " + name, ex);
-            return null;
+            if (clazz == null) {
+                logger.fatal("Error loading card: " + name, ex);
+                return null;
+            }
         }
+        cardClassesCache.put(name, new WeakReference<>(clazz));
+        return createCard(clazz, setInfo);
     }
 
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo) {
@@ -184,11 +206,23 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         String setCode = null;
         try {
             Card card;
-            if (setInfo == null) {
+            CardConstructor constructor = USE_CACHED_CONSTRUCTORS ? cardConstructors.get(clazz) : null;
+            if (setInfo != null) {
+                setCode = setInfo.getExpansionSetCode();
+            }
+            if (constructor != null && constructor.isSupported(setInfo != null)) {
+                // fast code
+                try {
+                    card = constructor.create(null, setInfo);
+                } catch (Throwable e) {
+                    // same as reflection errors
+                    throw new InvocationTargetException(e);
+                }
+            } else if (setInfo == null) {
+                // slow code, also used to generate errors for unsupported classes
                 Constructor<?> con = clazz.getConstructor(UUID.class);
                 card = (Card) con.newInstance(new Object[]{null});
             } else {
-                setCode = setInfo.getExpansionSetCode();
                 Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
                 card = (Card) con.newInstance(null, setInfo);
             }
@@ -209,6 +243,25 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         }
     }
 
+    /**
+     * Prepare cached constructors for all known cards (can be called from any thread, e.g. on server start)
+     *
+     * @return amount of prepared card classes (reprints use same class)
+     */
+    public static int prepareCardConstructors() {
+        Set<Class<?>> prepared = new HashSet<>();
+        for (ExpansionSet set : new ArrayList<>(Sets.getInstance().values())) {
+            for (ExpansionSet.SetCardInfo setCardInfo : set.getSetCardInfo()) {
+                Class<?> clazz = setCardInfo.getCardClass();
+                if (prepared.add(clazz)) {
+                    cardClassesCache.put(clazz.getName(), new WeakReference<>(clazz));
+                    cardConstructors.get(clazz);
+                }
+            }
+        }
+        return prepared.size();
+    }
+
     @Override
     public UUID getOwnerId() {
         return ownerId;
@@ -588,6 +641,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     @Override
     public void setFaceDown(boolean value, Game game) {
         game.getState().getCardState(objectId).setFaceDown(value);
+        game.getState().setChanged();
     }
 
     @Override
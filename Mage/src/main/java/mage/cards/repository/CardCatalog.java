@@ -0,0 +1,406 @@
+package mage.cards.repository;
+
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Read only cards database in memory, used by {@link CardRepository} for fast searching without sql queries
+ * (deck validation, deck editor, draft bots, etc).
+ * <p>
+ * Search results must be same as sql queries (cards db uses case insensitive compare for all strings).
+ * Catalog shares same CardInfo objects between all results, so don't modify it.
+ */
+public final class CardCatalog {
+
+    private final List<CardInfo> cards; // db order
+    private final Map<String, List<CardInfo>> byName = new HashMap<>();
+    private final Map<String, List<CardInfo>> byOtherSideName = new HashMap<>(); // flip, second side, adventure, mdfc
+    private final Map<String, List<CardInfo>> bySetAndNumber = new HashMap<>();
+    private final Map<String, List<CardInfo>> byClassName = new HashMap<>();
+
+    // fast filters for card criteria (bit per card index)
+    private final Map<CardType, BitSet> byType = new EnumMap<>(CardType.class);
+    private final Map<Rarity, BitSet> byRarity = new EnumMap<>(Rarity.class);
+    private final BitSet black = new BitSet();
+    private final BitSet blue = new BitSet();
+    private final BitSet green = new BitSet();
+    private final BitSet red = new BitSet();
+    private final BitSet white = new BitSet();
+    private final BitSet colorless = new BitSet();
+    private final BitSet nightCards = new BitSet();
+    private final BitSet splitCardHalfs = new BitSet();
+
+    // cached names for choose dialogs
+    private final Set<String> names = new TreeSet<>();
+    private final Set<String> nonLandNames = new TreeSet<>();
+    private final Set<String> nonbasicLandNames = new TreeSet<>();
+    private final Set<String> notBasicLandNames = new TreeSet<>();
+    private final Set<String> creatureNames = new TreeSet<>();
+    private final Set<String> artifactNames = new TreeSet<>();
+    private final Set<String> nonLandAndNonCreatureNames = new TreeSet<>();
+    private final Set<String> nonArtifactAndNonLandNames = new TreeSet<>();
+
+    CardCatalog(List<CardInfo> allCards) {
+        this.cards = Collections.unmodifiableList(new ArrayList<>(allCards));
+        for (CardType type : CardType.values()) {
+            byType.put(type, new BitSet());
+        }
+        for (Rarity rarity : Rarity.values()) {
+            byRarity.put(rarity, new BitSet());
+        }
+
+        for (int i = 0; i < cards.size(); i++) {
+            CardInfo card = cards.get(i);
+            addToIndex(byName, card.getName(), card);
+            for (String otherSideName : new HashSet<>(Arrays.asList(
+                    card.getFlipCardName(),
+                    card.getSecondSideName(),
+                    card.getAdventureSpellName(),
+                    card.getModalDoubleFacedSecondSideName()
+            ))) {
+                addToIndex(byOtherSideName, otherSideName, card);
+            }
+            addToIndex(bySetAndNumber, makeSetAndNumberKey(card.getSetCode(), card.getCardNumber()), card);
+            addToIndex(byClassName, card.getClassName(), card);
+
+            List<CardType> types = card.getTypes();
+            for (CardType type : types) {
+                byType.get(type).set(i);
+            }
+            if (card.getRarity() != null) {
+                byRarity.get(card.getRarity()).set(i);
+            }
+            black.set(i, card.black);
+            blue.set(i, card.blue);
+            green.set(i, card.green);
+            red.set(i, card.red);
+            white.set(i, card.white);
+            colorless.set(i, !card.black && !card.blue && !card.green && !card.red && !card.white);
+            nightCards.set(i, card.isNightCard());
+            splitCardHalfs.set(i, card.isSplitCardHalf());
+
+            boolean isLand = types.contains(CardType.LAND);
+            boolean isCreature = types.contains(CardType.CREATURE);
+            boolean isArtifact = types.contains(CardType.ARTIFACT);
+            boolean isBasic = card.getSupertypes().contains(SuperType.BASIC);
+            addNames(card, names);
+            if (!isLand) {
+                addNames(card, nonLandNames);
+            }
+            if (isLand && !isBasic) {
+                addNames(card, nonbasicLandNames);
+            }
+            if (!isBasic) {
+                addNames(card, notBasicLandNames);
+            }
+            if (isCreature) {
+                addNames(card, creatureNames);
+            }
+            if (isArtifact) {
+                addNames(card, artifactNames);
+            }
+            if (!isLand && !isCreature) {
+                addNames(card, nonLandAndNonCreatureNames);
+            }
+            if (!isLand && !isArtifact) {
+                addNames(card, nonArtifactAndNonLandNames);
+            }
+        }
+    }
+
+    private static String makeKey(String value) {
+        return value.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String makeSetAndNumberKey(String setCode, String cardNumber) {
+        return makeKey(setCode + "-" + cardNumber);
+    }
+
+    private static void addToIndex(Map<String, List<CardInfo>> index, String value, CardInfo card) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        index.computeIfAbsent(makeKey(value), k -> new ArrayList<>()).add(card);
+    }
+
+    private static List<CardInfo> findInIndex(Map<String, List<CardInfo>> index, String value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return index.getOrDefault(makeKey(value), Collections.emptyList());
+    }
+
+    /**
+     * Same names as CardRepository.addNewNames with sql columns: name, modalDoubleFacedSecondSideName,
+     * secondSideName, flipCardName
+     */
+    private static void addNames(CardInfo card, Set<String> namesList) {
+        int result = card.getName().indexOf(" // ");
+        if (result > 0) {
+            namesList.add(card.getName().substring(0, result));
+            namesList.add(card.getName().substring(result + 4));
+        } else {
+            namesList.add(card.getName());
+        }
+        if (card.getSecondSideName() != null && !card.getSecondSideName().isEmpty()) {
+            namesList.add(card.getSecondSideName());
+        }
+        if (card.getModalDoubleFacedSecondSideName() != null && !card.getModalDoubleFacedSecondSideName().isEmpty()) {
+            namesList.add(card.getModalDoubleFacedSecondSideName());
+        }
+        if (card.getFlipCardName() != null && !card.getFlipCardName().isEmpty()) {
+            namesList.add(card.getFlipCardName());
+        }
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public List<CardInfo> getAllCards() {
+        return cards;
+    }
+
+    public List<CardInfo> findByName(String name) {
+        return findInIndex(byName, name);
+    }
+
+    public List<CardInfo> findByOtherSideName(String name) {
+        return findInIndex(byOtherSideName, name);
+    }
+
+    public List<CardInfo> findBySetAndNumber(String setCode, String cardNumber) {
+        if (setCode == null || cardNumber == null) {
+            return Collections.emptyList();
+        }
+        return findInIndex(bySetAndNumber, makeSetAndNumberKey(setCode, cardNumber));
+    }
+
+    public List<CardInfo> findByClassName(String className) {
+        return findInIndex(byClassName, className);
+    }
+
+    public Set<String> getNames() {
+        return names;
+    }
+
+    public Set<String> getNonLandNames() {
+        return nonLandNames;
+    }
+
+    public Set<String> getNonbasicLandNames() {
+        return nonbasicLandNames;
+    }
+
+    public Set<String> getNotBasicLandNames() {
+        return notBasicLandNames;
+    }
+
+    public Set<String> getCreatureNames() {
+        return creatureNames;
+    }
+
+    public Set<String> getArtifactNames() {
+        return artifactNames;
+    }
+
+    public Set<String> getNonLandAndNonCreatureNames() {
+        return nonLandAndNonCreatureNames;
+    }
+
+    public Set<String> getNonArtifactAndNonLandNames() {
+        return nonArtifactAndNonLandNames;
+    }
+
+    /**
+     * @return false if criteria can't be used in memory (e.g. unknown sort field), so it must use sql query instead
+     */
+    public boolean canFind(CardCriteria criteria) {
+        return criteria.getSortBy() == null || findSortField(criteria.getSortBy()) != null;
+    }
+
+    /**
+     * Same as {@link CardCriteria#buildQuery}
+     */
+    public List<CardInfo> find(CardCriteria criteria) {
+        criteria.optimize();
+
+        // fast filters
+        BitSet found = new BitSet(cards.size());
+        found.set(0, cards.size());
+        found.andNot(splitCardHalfs);
+        if (criteria.getNightCard() != null) {
+            if (criteria.getNightCard()) {
+                found.and(nightCards);
+            } else {
+                found.andNot(nightCards);
+            }
+        }
+        if (!criteria.getRarities().isEmpty()) {
+            BitSet any = new BitSet();
+            criteria.getRarities().forEach(rarity -> any.or(byRarity.get(rarity)));
+            found.and(any);
+        }
+        if (criteria.getTypes().size() != 7 && !criteria.getTypes().isEmpty()) {
+            BitSet any = new BitSet();
+            criteria.getTypes().forEach(type -> any.or(byType.get(type)));
+            found.and(any);
+        }
+        criteria.getNotTypes().forEach(type -> found.andNot(byType.get(type)));
+        BitSet anyColor = new BitSet();
+        boolean needColor = false;
+        if (criteria.isBlack()) {
+            anyColor.or(black);
+            needColor = true;
+        }
+        if (criteria.isBlue()) {
+            anyColor.or(blue);
+            needColor = true;
+        }
+        if (criteria.isGreen()) {
+            anyColor.or(green);
+            needColor = true;
+        }
+        if (criteria.isRed()) {
+            anyColor.or(red);
+            needColor = true;
+        }
+        if (criteria.isWhite()) {
+            anyColor.or(white);
+            needColor = true;
+        }
+        if (criteria.isColorless()) {
+            anyColor.or(colorless);
+            needColor = true;
+        }
+        if (needColor) {
+            found.and(anyColor);
+        }
+
+        // other filters
+        Predicate<CardInfo> filter = makeFilter(criteria);
+        List<CardInfo> res = new ArrayList<>();
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            CardInfo card = cards.get(i);
+            if (filter.test(card)) {
+                res.add(card);
+            }
+        }
+
+        if (criteria.getSortBy() != null) {
+            res.sort(makeComparator(criteria.getSortBy()));
+        }
+        int start = criteria.getStart() == null ? 0 : (int) Math.min(criteria.getStart(), res.size());
+        int end = criteria.getCount() == null ? res.size() : (int) Math.min(start + criteria.getCount(), res.size());
+        return new ArrayList<>(res.subList(start, end));
+    }
+
+    private static Predicate<CardInfo> makeFilter(CardCriteria criteria) {
+        List<Predicate<CardInfo>> filters = new ArrayList<>();
+        if (criteria.getNameContains() != null) {
+            String need = makeKey(criteria.getNameContains());
+            filters.add(card -> containsIgnoreCase(card.name, need));
+        }
+        if (criteria.getName() != null) {
+            filters.add(card -> criteria.getName().equalsIgnoreCase(card.name));
+        }
+        if (criteria.getRules() != null) {
+            String need = makeKey(criteria.getRules());
+            filters.add(card -> containsIgnoreCase(card.rules, need));
+        }
+        if (criteria.getVariousArt() != null) {
+            filters.add(card -> card.variousArt == criteria.getVariousArt());
+        }
+        if (criteria.getDoubleFaced() != null) {
+            filters.add(card -> card.doubleFaced == criteria.getDoubleFaced());
+        }
+        if (criteria.getModalDoubleFaced() != null) {
+            filters.add(card -> card.modalDoubleFacedCard == criteria.getModalDoubleFaced());
+        }
+        if (!criteria.getSetCodes().isEmpty()) {
+            filters.add(card -> criteria.getSetCodes().stream().anyMatch(setCode -> setCode.equalsIgnoreCase(card.setCode)));
+        }
+        if (!criteria.getIgnoreSetCodes().isEmpty()) {
+            filters.add(card -> card.setCode != null
+                    && criteria.getIgnoreSetCodes().stream().noneMatch(setCode -> setCode.equalsIgnoreCase(card.setCode)));
+        }
+        for (SuperType superType : criteria.getSupertypes()) {
+            String need = makeKey(superType.name());
+            filters.add(card -> containsIgnoreCase(card.supertypes, need));
+        }
+        for (SuperType superType : criteria.getNotSupertypes()) {
+            String need = makeKey(superType.name());
+            filters.add(card -> card.supertypes != null && !containsIgnoreCase(card.supertypes, need));
+        }
+        for (SubType subType : criteria.getSubtypes()) {
+            String need = makeKey(subType.toString());
+            filters.add(card -> containsIgnoreCase(card.subtypes, need));
+        }
+        if (criteria.getManaValue() != null) {
+            filters.add(card -> card.manaValue == criteria.getManaValue());
+        }
+        if (criteria.getMinCardNumber() != Integer.MIN_VALUE) {
+            filters.add(card -> card.cardNumberAsInt >= criteria.getMinCardNumber());
+        }
+        if (criteria.getMaxCardNumber() != Integer.MAX_VALUE) {
+            filters.add(card -> card.cardNumberAsInt <= criteria.getMaxCardNumber());
+        }
+        return card -> {
+            for (Predicate<CardInfo> filter : filters) {
+                if (!filter.test(card)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerCaseNeed) {
+        // sql like with null value is false
+        return value != null && value.toLowerCase(Locale.ENGLISH).contains(lowerCaseNeed);
+    }
+
+    private static Field findSortField(String fieldName) {
+        try {
+            Field field = CardInfo.class.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException | SecurityException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<CardInfo> makeComparator(String sortBy) {
+        Field field = findSortField(sortBy);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown sort field: " + sortBy);
+        }
+        return (a, b) -> {
+            try {
+                Object valueA = field.get(a);
+                Object valueB = field.get(b);
+                // sql order: nulls first
+                if (valueA == null || valueB == null) {
+                    return valueA == null ? (valueB == null ? 0 : -1) : 1;
+                }
+                if (valueA instanceof Enum) {
+                    // enums stored as strings
+                    return ((Enum) valueA).name().compareToIgnoreCase(((Enum) valueB).name());
+                }
+                if (valueA instanceof String) {
+                    return ((String) valueA).compareToIgnoreCase((String) valueB);
+                }
+                return ((Comparable) valueA).compareTo(valueB);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't sort cards by " + sortBy, e);
+            }
+        };
+    }
+}
@@ -370,7 +370,7 @@ public class CardCriteria {
         }
     }
 
-    private CardCriteria optimize() {
+    CardCriteria optimize() {
         // remove rarity
         if (rarities.size() > 0) {
             List<Rarity> unusedRarities = new ArrayList<>(Arrays.asList(Rarity.values()));
@@ -458,6 +458,10 @@ public class CardCriteria {
         return modalDoubleFaced;
     }
 
+    public Boolean getNightCard() {
+        return nightCard;
+    }
+
     public boolean isBlack() {
         return black;
     }
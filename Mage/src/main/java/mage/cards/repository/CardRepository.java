@@ -39,8 +39,12 @@ public enum CardRepository {
     private static final long CARD_DB_VERSION = 54;
     // raise this if new cards were added to the server
     private static final long CARD_CONTENT_VERSION = 241;
+    // performance: search cards in memory instead db queries (all cards will be loaded on first usage, needs more memory)
+    public static boolean USE_MEMORY_CATALOG = true;
+
     private Dao<CardInfo, Object> cardDao;
     private Set<String> classNames;
+    private volatile CardCatalog catalog = null; // must be reset after any db changes
 
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
@@ -117,6 +121,7 @@ public enum CardRepository {
 
                 return null;
             });
+            resetCatalog();
 
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
@@ -156,6 +161,10 @@ public enum CardRepository {
     }
 
     public Set<String> getNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -172,6 +181,10 @@ public enum CardRepository {
     }
 
     public Set<String> getNonLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getNonLandNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -189,6 +202,10 @@ public enum CardRepository {
     }
 
     public Set<String> getNonbasicLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getNonbasicLandNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -210,6 +227,10 @@ public enum CardRepository {
     }
 
     public Set<String> getNotBasicLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getNotBasicLandNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -227,6 +248,10 @@ public enum CardRepository {
     }
 
     public Set<String> getCreatureNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getCreatureNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -244,6 +269,10 @@ public enum CardRepository {
     }
 
     public Set<String> getArtifactNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getArtifactNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -261,6 +290,10 @@ public enum CardRepository {
     }
 
     public Set<String> getNonLandAndNonCreatureNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getNonLandAndNonCreatureNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -282,6 +315,10 @@ public enum CardRepository {
     }
 
     public Set<String> getNonArtifactAndNonLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new TreeSet<>(cardCatalog.getNonArtifactAndNonLandNames());
+        }
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardDao.queryBuilder();
@@ -307,6 +344,16 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            // some double faced cards can use second side card with same number as main side
+            // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
+            List<CardInfo> found = cardCatalog.findBySetAndNumber(setCode, cardNumber);
+            return found.stream()
+                    .filter(card -> !card.isNightCard())
+                    .findFirst()
+                    .orElse(ignoreNightCards || found.isEmpty() ? null : found.get(0));
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             if (ignoreNightCards) {
@@ -336,6 +383,11 @@ public enum CardRepository {
 
     public List<String> getClassNames() {
         List<String> names = new ArrayList<>();
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            cardCatalog.getAllCards().forEach(card -> names.add(card.getClassName()));
+            return names;
+        }
         try {
             List<CardInfo> results = cardDao.queryForAll();
             for (CardInfo card : results) {
@@ -480,6 +532,12 @@ public enum CardRepository {
      *                              or an empty list if the card was not found.
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
+        // db fix code must check real db
+        CardCatalog cardCatalog = canCheckDatabaseHealth ? getCatalog() : null;
+        if (cardCatalog != null) {
+            return findCardsInCatalog(cardCatalog, name, limitByMaxAmount, returnSplitCardHalf);
+        }
+
         List<CardInfo> results;
         QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
         if (limitByMaxAmount > 0) {
@@ -551,11 +609,53 @@ public enum CardRepository {
         return Collections.emptyList();
     }
 
+    /**
+     * Same as sql version of findCards
+     */
+    private List<CardInfo> findCardsInCatalog(CardCatalog cardCatalog, String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        List<CardInfo> results;
+        if (name.contains(" // ")) {
+            // split card stored under full card name, other cards (adventure, mdfc, etc) under first half
+            results = cardCatalog.findByName(name);
+            if (results.isEmpty()) {
+                results = cardCatalog.findByName(name.split(" // ", 2)[0]);
+            }
+        } else {
+            results = cardCatalog.findByName(name);
+            if (results.isEmpty()) {
+                results = cardCatalog.findByOtherSideName(name);
+            } else {
+                // search by split card half must return full split card
+                CardInfo firstCardInfo = results.get(0);
+                if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+                    String fullSplitCardName = cardCatalog.findBySetAndNumber(firstCardInfo.setCode, firstCardInfo.cardNumber)
+                            .stream()
+                            .filter(CardInfo::isSplitCard)
+                            .map(CardInfo::getName)
+                            .findFirst()
+                            .orElse(null);
+                    if (fullSplitCardName == null) {
+                        return Collections.emptyList();
+                    }
+                    results = cardCatalog.findByName(fullSplitCardName);
+                }
+            }
+        }
+        if (limitByMaxAmount > 0 && results.size() > limitByMaxAmount) {
+            results = results.subList(0, (int) limitByMaxAmount);
+        }
+        return new ArrayList<>(results);
+    }
+
     public List<CardInfo> findCards(String name, long limitByMaxAmount) {
         return findCards(name, limitByMaxAmount, false, true);
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return new ArrayList<>(cardCatalog.findByClassName(canonicalClassName));
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
@@ -577,6 +677,10 @@ public enum CardRepository {
      * @return
      */
     public List<CardInfo> findCards(CardCriteria criteria) {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null && cardCatalog.canFind(criteria)) {
+            return cardCatalog.find(criteria);
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -645,7 +749,43 @@ public enum CardRepository {
         return CARD_CONTENT_VERSION;
     }
 
+    /**
+     * All cards from db in memory for fast search, see USE_MEMORY_CATALOG
+     *
+     * @return null if memory catalog disabled or db is not available
+     */
+    public CardCatalog getCatalog() {
+        if (!USE_MEMORY_CATALOG || cardDao == null) {
+            return null;
+        }
+        CardCatalog res = this.catalog;
+        if (res == null) {
+            synchronized (this) {
+                res = this.catalog;
+                if (res == null) {
+                    try {
+                        long startTime = System.currentTimeMillis();
+                        res = new CardCatalog(cardDao.queryForAll());
+                        this.catalog = res;
+                        logger.info(String.format("DB: loaded %d cards to memory catalog in %d ms",
+                                res.size(), System.currentTimeMillis() - startTime));
+                    } catch (SQLException e) {
+                        // sql queries will be used instead
+                        logger.error("Error loading cards to memory catalog: " + e, e);
+                        return null;
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    private void resetCatalog() {
+        this.catalog = null;
+    }
+
     public void closeDB() {
+        resetCatalog();
         try {
             if (cardDao != null && cardDao.getConnectionSource() != null) {
                 DatabaseConnection conn = cardDao.getConnectionSource().getReadWriteConnection(cardDao.getTableName());
@@ -656,6 +796,7 @@ public enum CardRepository {
     }
 
     private void openDB() {
+        resetCatalog();
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(JDBC_URL);
             cardDao = DaoManager.createDao(connectionSource, CardInfo.class);
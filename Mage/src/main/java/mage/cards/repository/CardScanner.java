@@ -3,10 +3,10 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * @author North
@@ -15,6 +15,9 @@ public final class CardScanner {
 
     public static boolean scanned = false;
 
+    // performance: create new cards in parallel threads (first start or new db version)
+    public static boolean PARALLEL_SCAN = true;
+
     private static final Logger logger = Logger.getLogger(CardScanner.class);
 
     public static void scan() {
@@ -26,6 +29,7 @@ public final class CardScanner {
             return;
         }
         scanned = true;
+        long startTime = System.currentTimeMillis();
 
         List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
@@ -51,35 +55,104 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
+        // db contains all old cards, so new cards can be found by set code and card number
+        List<NewCard> newCards = new ArrayList<>();
         for (ExpansionSet set : Sets.getInstance().values()) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
                 if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
-                    // found new card
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                    newCards.add(new NewCard(set, setInfo));
                 }
             }
         }
+        if (!newCards.isEmpty()) {
+            List<String> scanErrors = errorsList == null ? null : Collections.synchronizedList(new ArrayList<>());
+            for (List<CardInfo> newCardInfos : createCardInfos(newCards, scanErrors)) {
+                cardsToAdd.addAll(newCardInfos);
+            }
+            if (scanErrors != null) {
+                errorsList.addAll(scanErrors);
+            }
+        }
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+
+        logger.info(String.format("Cards scan: %d sets, %d new cards, %d ms",
+                Sets.getInstance().size(),
+                newCards.size(),
+                System.currentTimeMillis() - startTime
+        ));
+    }
+
+    /**
+     * Create cards data, result is in the same order as new cards
+     * <p>
+     * Parallel mode is safe: card constructors create own objects only and use shared static data
+     * (static filters, singleton abilities) in read only mode, server also creates cards from many game
+     * threads all the time (decks, tokens, boosters). See CardRepositoryTest for parallel vs serial data
+     */
+    private static List<List<CardInfo>> createCardInfos(List<NewCard> newCards, List<String> errorsList) {
+        if (PARALLEL_SCAN && newCards.size() > 1) {
+            // own errors list, so failed parallel mode will not duplicate errors of the single thread mode
+            List<String> parallelErrors = errorsList == null ? null : Collections.synchronizedList(new ArrayList<>());
+            ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            try {
+                List<List<CardInfo>> res = pool.submit(() -> newCards.parallelStream()
+                        .map(newCard -> createCardInfos(newCard, parallelErrors))
+                        .collect(Collectors.toList())
+                ).get();
+                if (errorsList != null) {
+                    errorsList.addAll(parallelErrors);
+                }
+                return res;
+            } catch (InterruptedException | ExecutionException e) {
+                logger.error("Cards scan: parallel mode failed, single thread mode will be used - " + e, e);
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return newCards.stream()
+                .map(newCard -> createCardInfos(newCard, errorsList))
+                .collect(Collectors.toList());
+    }
+
+    private static List<CardInfo> createCardInfos(NewCard newCard, List<String> errorsList) {
+        List<CardInfo> res = new ArrayList<>();
+        ExpansionSet.SetCardInfo setInfo = newCard.setInfo;
+        Card card = CardImpl.createCard(
+                setInfo.getCardClass(),
+                new CardSetInfo(setInfo.getName(), newCard.set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
+                errorsList);
+        if (card != null) {
+            // Adds only main card, except night cards.
+
+            // TODO: remove night cards from sets and db someday
+            // Possible reasons for night cards in sets:
+            // - direct put night card to battlefield by name in tests;
+            // - images download;
+            // - in old days xmage client was able to works without card classes, e.g.
+            //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+            res.add(new CardInfo(card));
+            if (card instanceof SplitCard) {
+                SplitCard splitCard = (SplitCard) card;
+                res.add(new CardInfo(splitCard.getLeftHalfCard()));
+                res.add(new CardInfo(splitCard.getRightHalfCard()));
+            }
+        }
+        return res;
+    }
+
+    private static final class NewCard {
+
+        private final ExpansionSet set;
+        private final ExpansionSet.SetCardInfo setInfo;
+
+        private NewCard(ExpansionSet set, ExpansionSet.SetCardInfo setInfo) {
+            this.set = set;
+            this.setInfo = setInfo;
+        }
     }
 
     public static List<Card> getAllCards() {
@@ -1,7 +1,7 @@
 package mage.filter;
 
+import mage.filter.predicate.CompiledPredicate;
 import mage.filter.predicate.Predicate;
-import mage.filter.predicate.Predicates;
 import mage.game.Game;
 
 import java.util.ArrayList;
@@ -18,6 +18,10 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected String message;
     protected boolean lockedFilter; // Helps to prevent "accidentally" modifying the StaticFilters objects
 
+    // prepared predicates for fast match, compiles on lock or on first usage (static filters are shared between games,
+    // so it uses immutable object without sync)
+    private transient CompiledPredicate<E> compiledPredicate = null;
+
     @Override
     public abstract FilterImpl<E> copy();
 
@@ -35,17 +39,27 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public boolean match(E e, Game game) {
         if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+            return getCompiledPredicate().apply(e, game);
         }
         return false;
     }
 
+    private CompiledPredicate<E> getCompiledPredicate() {
+        CompiledPredicate<E> res = this.compiledPredicate;
+        if (res == null || !res.isActual(predicates)) {
+            res = new CompiledPredicate<>(predicates);
+            this.compiledPredicate = res;
+        }
+        return res;
+    }
+
     @Override
     public final Filter<E> add(Predicate<? super E> predicate) {
         if (isLockedFilter()) {
             throw new UnsupportedOperationException("You may not modify a locked filter");
         }
         predicates.add(predicate);
+        this.compiledPredicate = null;
         return this;
     }
 
@@ -75,6 +89,10 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public void setLockedFilter(boolean lockedFilter) {
         this.lockedFilter = lockedFilter;
+        if (lockedFilter) {
+            // locked filter can't be modified, so prepare it before usage
+            this.compiledPredicate = new CompiledPredicate<>(predicates);
+        }
     }
 
     public List<Predicate<? super E>> getPredicates() {
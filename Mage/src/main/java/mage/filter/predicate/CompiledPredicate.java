@@ -0,0 +1,99 @@
+package mage.filter.predicate;
+
+import mage.constants.CardType;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import mage.filter.predicate.mageobject.*;
+import mage.filter.predicate.permanent.PermanentIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
+import mage.game.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Prepared "and" predicate for fast filter checks (see FilterImpl.match), must be same as {@link Predicates#and(Iterable)}:
+ * <p>
+ * - nested "and" predicates will be flattened to the single list;
+ * <p>
+ * - cheap predicates (ids, card types, colors, etc) will be checked before other predicates (controller, abilities, etc),
+ * other predicates keep its original order;
+ * <p>
+ * - check doesn't allocate any objects.
+ */
+public final class CompiledPredicate<T> implements Predicate<T> {
+
+    private static final int COST_CHEAP = 0; // simple fields compare
+    private static final int COST_TYPES = 1; // types and colors (can be changed by effects)
+    private static final int COST_OTHER = 2;
+
+    private final Predicate<? super T>[] components;
+    private final int sourceSize; // original predicates amount, used to find outdated data
+
+    @SuppressWarnings("unchecked")
+    public CompiledPredicate(List<? extends Predicate<? super T>> predicates) {
+        List<Predicate<? super T>> flat = new ArrayList<>();
+        collectAndComponents(predicates, flat);
+        flat.sort(Comparator.comparingInt(CompiledPredicate::getCost)); // stable sort, so same cost keeps original order
+        this.components = flat.toArray(new Predicate[0]);
+        this.sourceSize = predicates.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void collectAndComponents(List<? extends Predicate<? super T>> predicates, List<Predicate<? super T>> res) {
+        for (Predicate<? super T> predicate : predicates) {
+            if (predicate instanceof Predicates.AndPredicate) {
+                collectAndComponents(((Predicates.AndPredicate<T>) predicate).components, res);
+            } else {
+                res.add(predicate);
+            }
+        }
+    }
+
+    private static int getCost(Predicate<?> predicate) {
+        if (predicate instanceof Predicates.NotPredicate) {
+            return getCost(((Predicates.NotPredicate<?>) predicate).predicate);
+        }
+        if (predicate instanceof CardIdPredicate
+                || predicate instanceof PermanentIdPredicate
+                || predicate instanceof TappedPredicate
+                || predicate instanceof TokenPredicate) {
+            return COST_CHEAP;
+        }
+        if (predicate instanceof CardType.CardTypePredicate
+                || predicate instanceof SuperType.SuperTypePredicate
+                || predicate instanceof SubType.SubTypePredicate
+                || predicate instanceof ColorPredicate
+                || predicate instanceof ColorlessPredicate
+                || predicate instanceof MonocoloredPredicate
+                || predicate instanceof MulticoloredPredicate) {
+            return COST_TYPES;
+        }
+        return COST_OTHER;
+    }
+
+    /**
+     * @return true if compiled data was made from the same predicates list (e.g. no new predicates added after compile)
+     */
+    public boolean isActual(List<? extends Predicate<? super T>> predicates) {
+        return this.sourceSize == predicates.size();
+    }
+
+    @Override
+    public boolean apply(T t, Game game) {
+        for (Predicate<? super T> predicate : components) {
+            if (!predicate.apply(t, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Compiled" + Arrays.toString(components);
+    }
+}
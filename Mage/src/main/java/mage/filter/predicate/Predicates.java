@@ -115,7 +115,7 @@ public final class Predicates {
     /**
      * @see Predicates#not(Predicate)
      */
-    private static class NotPredicate<T> implements Predicate<T> {
+    static class NotPredicate<T> implements Predicate<T> {
 
         final Predicate<T> predicate;
 
@@ -139,9 +139,9 @@ public final class Predicates {
     /**
      * @see Predicates#and(Iterable)
      */
-    private static class AndPredicate<T> implements Predicate<T> {
+    static class AndPredicate<T> implements Predicate<T> {
 
-        private final List<? extends Predicate<? super T>> components;
+        final List<? extends Predicate<? super T>> components;
 
         private AndPredicate(List<? extends Predicate<? super T>> components) {
             this.components = components;
@@ -149,8 +149,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().allMatch(predicate -> predicate.apply(t, game));
-
+            for (Predicate<? super T> predicate : components) {
+                if (!predicate.apply(t, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
@@ -174,7 +178,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().anyMatch(predicate -> predicate.apply(t, game));
+            for (Predicate<? super T> predicate : components) {
+                if (predicate.apply(t, game)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
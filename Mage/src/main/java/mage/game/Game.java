@@ -275,7 +275,8 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
     Game createSimulationForAI();
 
     /**
-     * Prepare game for any playable calc (available mana/abilities)
+     * Prepare game for any playable calc (available mana/abilities).
+     * Result must be used in the same thread and released by getState().releaseSharedContainers() before any next game changes
      */
     Game createSimulationForPlayableCalc();
 
@@ -103,6 +103,7 @@ public abstract class GameImpl implements Game {
     protected boolean simulation = false; // for inner simulations (game without user messages)
     protected boolean aiGame = false; // for inner simulations (ai game, debug only)
     protected boolean checkPlayableState = false; // for inner playable calculations (game without user dialogs)
+    private transient boolean copyForPlayableCalc = false; // short living copy in the same thread, so it can use lazy state copy
 
     protected AtomicInteger totalErrorsCount = new AtomicInteger(); // for debug only: error stats
 
@@ -205,7 +206,15 @@ public abstract class GameImpl implements Game {
         this.permanentsEntering = CardUtil.deepCopyObject(game.permanentsEntering);
         this.enterWithCounters = CardUtil.deepCopyObject(game.enterWithCounters);
 
-        this.state = game.state.copy();
+        if (game.copyForPlayableCalc) {
+            // playable calc copy will be released before any next game changes, so it can use source's data
+            this.state = game.state.copyForPlayableCalc();
+        } else if (game.simulation) {
+            // simulation's state can't be changed by outside code, so it's safe to use lazy copy
+            this.state = game.state.copyForSimulation();
+        } else {
+            this.state = game.state.copy();
+        }
         // client-server part, not need on copy/simulations:
         /*
         this.savedStates = game.savedStates;
@@ -261,7 +270,13 @@ public abstract class GameImpl implements Game {
 
     @Override
     public Game createSimulationForPlayableCalc() {
-        Game res = this.copy();
+        Game res;
+        this.copyForPlayableCalc = true;
+        try {
+            res = this.copy();
+        } finally {
+            this.copyForPlayableCalc = false;
+        }
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).checkPlayableState = true;
         return res;
@@ -2282,6 +2297,26 @@ public abstract class GameImpl implements Game {
      * @return
      */
     protected boolean checkStateBasedActions() {
+        // incremental mode: nothing changed from the last check without actions, so it will give same result
+        // (game loops and AI simulations call it after each action and priority pass)
+        long version = state.getStateBasedActionsVersion();
+        if (state.isStateBasedActionsChecked(version)) {
+            if (DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS && checkStateBasedActionsFull()) {
+                // how-to fix: game changes must generate events or call GameState.setChanged
+                throw new IllegalStateException("State based actions integrity failed: incremental check miss some game changes");
+            }
+            return false;
+        }
+
+        boolean somethingHappened = checkStateBasedActionsFull();
+        if (!somethingHappened && version != 0 && version == state.getStateBasedActionsVersion()) {
+            // check can change the game without actions (e.g. counters or attachments), so remember unchanged game only
+            state.setStateBasedActionsChecked(version);
+        }
+        return somethingHappened;
+    }
+
+    private boolean checkStateBasedActionsFull() {
         boolean somethingHappened = false;
 
         //20091005 - 704.5a/704.5b/704.5c
@@ -35,7 +35,9 @@ import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
+import mage.util.CopyOnWriteValue;
 import mage.util.Copyable;
+import mage.util.DebugUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -43,6 +45,7 @@ import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -63,6 +66,26 @@ public class GameState implements Serializable, Copyable<GameState> {
     // warning, do not use another keys with same starting text cause copy code search and clean all related values
     public static final String COPIED_CARD_KEY = "CopiedCard";
 
+    // copy-on-write mode for big zone containers (battlefield, stack, exile, effects, triggers, watchers) in AI simulations:
+    // simulation copy shares it and makes real copy on first access only (simulation branches rarely use all of it)
+    // disable it to find copy related bugs (old mode with full copy of all containers)
+    public static boolean COPY_ON_WRITE_SIMULATIONS = true;
+
+    // incremental effects apply: layers result depends on game data only, so full effects re-apply can be skipped
+    // until any game changes (objects, events, effects, values), see DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS
+    // disable it to find related bugs (old mode with full apply on each call)
+    public static boolean INCREMENTAL_EFFECTS_APPLY = true;
+
+    // cached rules text: abilities rules are same until next game changes, so game views can reuse it
+    // for all players and callbacks, see DebugUtil.GAME_RULES_CACHE_CHECKS
+    // disable it to find related bugs (old mode with rules generation on each call)
+    public static boolean CACHED_RULES_TEXT = true;
+
+    // incremental state based actions: full check can be skipped until any game changes after the last check
+    // without actions (requires incremental effects apply), see DebugUtil.GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS
+    // disable it to find related bugs (old mode with full check on each call)
+    public static boolean INCREMENTAL_STATE_BASED_ACTIONS = true;
+
     private final Players players;
     private final PlayerList playerList;
     private UUID choosingPlayerId; // player that makes a choice at game start
@@ -73,7 +96,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     private final Revealed companion;
 
     private SpecialActions specialActions;
-    private Watchers watchers;
+    private CopyOnWriteValue<Watchers> watchers;
     private Turn turn;
     private TurnMods turnMods; // one time turn modifications (turn, phase or step)
     private UUID activePlayerId; // playerId which turn it is
@@ -81,21 +104,21 @@ public class GameState implements Serializable, Copyable<GameState> {
     private UUID playerByOrderId; // player that has currently priority
     private UUID monarchId; // player that is the monarch
     private UUID initiativeId; // player that has the initiative
-    private SpellStack stack;
+    private CopyOnWriteValue<SpellStack> stack;
     private Command command;
     private boolean isPlaneChase;
     private List<String> seenPlanes = new ArrayList<>();
     private List<Designation> designations = new ArrayList<>();
     private List<Emblem> inherentEmblems = new ArrayList<>();
-    private Exile exile;
-    private Battlefield battlefield;
+    private CopyOnWriteValue<Exile> exile;
+    private CopyOnWriteValue<Battlefield> battlefield;
     private int turnNum = 1;
     private int stepNum = 0;
     private UUID extraTurnId = null; // id of the current extra turn (null on normal turn or after game stopped)
     private boolean gameOver;
     private boolean paused;
-    private ContinuousEffects effects;
-    private TriggeredAbilities triggers; // all normal triggers
+    private CopyOnWriteValue<ContinuousEffects> effects;
+    private CopyOnWriteValue<TriggeredAbilities> triggers; // all normal triggers
     private DelayedTriggeredAbilities delayed; // all delayed triggers
     private List<TriggeredAbility> triggered = new ArrayList<>(); // raised triggers, waiting to resolve (can contains both normal and delayed)
     private Combat combat;
@@ -116,28 +139,66 @@ public class GameState implements Serializable, Copyable<GameState> {
     private boolean reverseTurnOrder = false;
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
+    private int changesCounter; // Upcounting number of game changes (events, values, zones, direct changes), used by incremental effects apply
+    private long appliedEffectsVersion; // game version after last full effects apply (0 - unknown, must apply)
+    private long checkedStateBasedActionsVersion; // game version after last state based actions check without actions (0 - unknown, must check)
+    private transient Map<UUID, CachedRules> rulesCache; // object id -> abilities rules text, used by game views only
+
+    private static class CachedRules {
+
+        private final long version;
+        private final String objectName;
+        private final long abilitiesHash;
+        private final List<String> rules;
+
+        private CachedRules(long version, String objectName, long abilitiesHash, List<String> rules) {
+            this.version = version;
+            this.objectName = objectName;
+            this.abilitiesHash = abilitiesHash;
+            this.rules = rules;
+        }
+
+        private boolean isSame(long version, String objectName, long abilitiesHash) {
+            return this.version == version
+                    && this.abilitiesHash == abilitiesHash
+                    && Objects.equals(this.objectName, objectName);
+        }
+    }
 
     public GameState() {
         players = new Players();
         playerList = new PlayerList();
         turn = new Turn();
-        stack = new SpellStack();
+        stack = new CopyOnWriteValue<>(new SpellStack());
         command = new Command();
-        exile = new Exile();
+        exile = new CopyOnWriteValue<>(new Exile());
         revealed = new Revealed();
         companion = new Revealed();
-        battlefield = new Battlefield();
-        effects = new ContinuousEffects();
-        triggers = new TriggeredAbilities();
+        battlefield = new CopyOnWriteValue<>(new Battlefield());
+        effects = new CopyOnWriteValue<>(new ContinuousEffects());
+        triggers = new CopyOnWriteValue<>(new TriggeredAbilities());
         delayed = new DelayedTriggeredAbilities();
         specialActions = new SpecialActions();
         combat = new Combat();
         turnMods = new TurnMods();
-        watchers = new Watchers();
+        watchers = new CopyOnWriteValue<>(new Watchers());
         applyEffectsCounter = 0;
     }
 
+    /**
+     * Copy modes for zone containers, see {@link CopyOnWriteValue} for details
+     */
+    protected enum ContainersCopyMode {
+        FULL, // full copy of all containers
+        LAZY, // independent lazy copy (copies of the copy will not copy unused containers)
+        LAZY_SHORT_LIVING // lazy copy without data copy, source must not be changed until copy's release
+    }
+
     protected GameState(final GameState state) {
+        this(state, ContainersCopyMode.FULL);
+    }
+
+    protected GameState(final GameState state, ContainersCopyMode copyMode) {
         this.players = state.players.copy();
         this.playerList = state.playerList.copy();
         this.choosingPlayerId = state.choosingPlayerId;
@@ -154,25 +215,25 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.initiativeId = state.initiativeId;
         this.turn = state.turn.copy();
 
-        this.stack = state.stack.copy();
+        this.stack = copyContainer(state.stack, copyMode);
         this.command = state.command.copy();
         this.isPlaneChase = state.isPlaneChase;
         this.seenPlanes.addAll(state.seenPlanes);
         this.designations.addAll(state.designations);
         this.inherentEmblems = CardUtil.deepCopyObject(state.inherentEmblems);
-        this.exile = state.exile.copy();
-        this.battlefield = state.battlefield.copy();
+        this.exile = copyContainer(state.exile, copyMode);
+        this.battlefield = copyContainer(state.battlefield, copyMode);
         this.turnNum = state.turnNum;
         this.stepNum = state.stepNum;
         this.extraTurnId = state.extraTurnId;
-        this.effects = state.effects.copy();
+        this.effects = copyContainer(state.effects, copyMode);
         this.triggered = CardUtil.deepCopyObject(state.triggered);
-        this.triggers = state.triggers.copy();
+        this.triggers = copyContainer(state.triggers, copyMode);
         this.delayed = state.delayed.copy();
         this.specialActions = state.specialActions.copy();
         this.combat = state.combat.copy();
         this.turnMods = state.turnMods.copy();
-        this.watchers = state.watchers.copy();
+        this.watchers = copyContainer(state.watchers, copyMode);
         this.values = CardUtil.deepCopyObject(state.values);
         this.zones.putAll(state.zones);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
@@ -183,6 +244,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.changesCounter = state.changesCounter;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -198,13 +260,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         // test example: testCommanderRestoredToBattlefieldAfterKarnUltimate
         // TODO: must be implemented as full data clear?
 
-        battlefield.clear();
-        effects.clear();
-        triggers.clear();
+        battlefield.get().clear();
+        effects.get().clear();
+        triggers.get().clear();
         delayed.clear();
+        appliedEffectsVersion = 0;
+        checkedStateBasedActionsVersion = 0;
         triggered.clear();
-        stack.clear();
-        exile.clear();
+        stack.get().clear();
+        exile.get().clear();
         command.clear();
         designations.clear();
         inherentEmblems.clear();
@@ -222,7 +286,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         permanentCostsTags.clear();
         combat.clear();
         turnMods.clear();
-        watchers.clear();
+        watchers.get().clear();
         values.clear();
         zones.clear();
         simultaneousEvents.clear();
@@ -277,6 +341,11 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        // counter must never go back, so data cached by old versions can't be used after rollback
+        this.changesCounter = Math.max(this.changesCounter, state.changesCounter) + 1;
+        this.appliedEffectsVersion = 0; // restored objects must be applied again
+        this.checkedStateBasedActionsVersion = 0;
+        this.rulesCache = null;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -290,6 +359,46 @@ public class GameState implements Serializable, Copyable<GameState> {
         return new GameState(this);
     }
 
+    /**
+     * Copy for a simulation's state (source must be a simulation, so nobody can change it from outside)
+     */
+    public GameState copyForSimulation() {
+        return new GameState(this, COPY_ON_WRITE_SIMULATIONS ? ContainersCopyMode.LAZY : ContainersCopyMode.FULL);
+    }
+
+    /**
+     * Copy for short living playable calculations in the same thread, it must be released
+     * by {@link #releaseSharedContainers()} before any next changes in the source state
+     */
+    public GameState copyForPlayableCalc() {
+        return new GameState(this, COPY_ON_WRITE_SIMULATIONS ? ContainersCopyMode.LAZY_SHORT_LIVING : ContainersCopyMode.FULL);
+    }
+
+    /**
+     * Simulation's state is not needed anymore: drop all not used lazy copies, so the source state
+     * will not make snapshot copies for it (state can't be used after it)
+     */
+    public void releaseSharedContainers() {
+        stack.release();
+        exile.release();
+        battlefield.release();
+        effects.release();
+        triggers.release();
+        watchers.release();
+    }
+
+    private static <T extends Copyable<T>> CopyOnWriteValue<T> copyContainer(CopyOnWriteValue<T> container, ContainersCopyMode copyMode) {
+        switch (copyMode) {
+            case LAZY:
+                return container.share();
+            case LAZY_SHORT_LIVING:
+                return container.shareShortLiving();
+            case FULL:
+            default:
+                return new CopyOnWriteValue<>(container.get().copy());
+        }
+    }
+
     public void addPlayer(Player player) {
         players.put(player.getId(), player);
         playerList.add(player.getId());
@@ -312,16 +421,16 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
 
         sb.append("permanents");
-        for (Permanent permanent : battlefield.getAllPermanents()) {
+        for (Permanent permanent : battlefield.get().getAllPermanents()) {
             sb.append(permanent.getValue(this));
         }
 
         sb.append("spells");
-        for (StackObject spell : stack) {
+        for (StackObject spell : stack.get()) {
             sb.append(spell.getControllerId()).append(spell.getName());
         }
 
-        for (ExileZone zone : exile.getExileZones()) {
+        for (ExileZone zone : exile.get().getExileZones()) {
             sb.append("exile").append(zone.getName()).append(zone);
         }
 
@@ -353,14 +462,14 @@ public class GameState implements Serializable, Copyable<GameState> {
 
         sb.append("permanents");
         List<String> perms = new ArrayList<>();
-        for (Permanent permanent : battlefield.getAllPermanents()) {
+        for (Permanent permanent : battlefield.get().getAllPermanents()) {
             perms.add(permanent.getValue(this));
         }
         Collections.sort(perms);
         sb.append(perms);
 
         sb.append("spells");
-        for (StackObject spell : stack) {
+        for (StackObject spell : stack.get()) {
             sb.append(spell.getControllerId()).append(spell.getName());
             sb.append(spell.getStackAbility().toString());
             for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
@@ -374,7 +483,7 @@ public class GameState implements Serializable, Copyable<GameState> {
             }
         }
 
-        for (ExileZone zone : exile.getExileZones()) {
+        for (ExileZone zone : exile.get().getExileZones()) {
             sb.append("exile").append(zone.getName()).append(zone.getValue(game));
         }
 
@@ -406,14 +515,14 @@ public class GameState implements Serializable, Copyable<GameState> {
 
         sb.append("permanents");
         List<String> perms = new ArrayList<>();
-        for (Permanent permanent : battlefield.getAllPermanents()) {
+        for (Permanent permanent : battlefield.get().getAllPermanents()) {
             perms.add(permanent.getValue(this));
         }
         Collections.sort(perms);
         sb.append(perms);
 
         sb.append("spells");
-        for (StackObject spell : stack) {
+        for (StackObject spell : stack.get()) {
             sb.append(spell.getControllerId()).append(spell.getName());
             sb.append(spell.getStackAbility().toString());
             for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
@@ -427,7 +536,7 @@ public class GameState implements Serializable, Copyable<GameState> {
             }
         }
 
-        for (ExileZone zone : exile.getExileZones()) {
+        for (ExileZone zone : exile.get().getExileZones()) {
             sb.append("exile").append(zone.getName()).append(zone.getValue(game));
         }
 
@@ -496,15 +605,15 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Battlefield getBattlefield() {
-        return this.battlefield;
+        return this.battlefield.get();
     }
 
     public SpellStack getStack() {
-        return this.stack;
+        return this.stack.get();
     }
 
     public Exile getExile() {
-        return exile;
+        return exile.get();
     }
 
     public List<Designation> getDesignations() {
@@ -646,7 +755,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Watcher getWatcher(String key) {
-        return watchers.get(key);
+        return watchers.get().get(key);
     }
 
     public SpecialActions getSpecialActions() {
@@ -674,28 +783,253 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void applyEffects(Game game) {
         applyEffectsCounter++;
+
+        // incremental mode: nothing changed from the last apply, so it will give same result
+        if (isEffectsApplyActual()) {
+            if (DebugUtil.GAME_EFFECTS_INCREMENTAL_CHECKS) {
+                // full apply must not change anything
+                String needResult = getEffectsApplyResult(game);
+                applyEffectsFull(game);
+                String realResult = getEffectsApplyResult(game);
+                if (!needResult.equals(realResult)) {
+                    // how-to fix: game changes must generate events or call setChanged
+                    throw new IllegalStateException("Effects integrity failed: incremental apply miss some game changes: "
+                            + "need " + needResult + ", but found " + realResult);
+                }
+                // full apply changes counters (control reset, etc), so keep same mode as without checks
+                this.appliedEffectsVersion = getChangesVersion();
+            }
+            return;
+        }
+
+        applyEffectsFull(game);
+        this.appliedEffectsVersion = INCREMENTAL_EFFECTS_APPLY ? getChangesVersion() : 0;
+    }
+
+    private void applyEffectsFull(Game game) {
         for (Player player : players.values()) {
             player.reset();
         }
-        battlefield.reset(game);
+        battlefield.get().reset(game);
         combat.reset(game);
         this.reset();
-        effects.apply(game);
+        effects.get().apply(game);
         combat.checkForRemoveFromCombat(game);
     }
 
+    /**
+     * Game version for cached rules text: effects applied and nothing changed after it
+     * (layer 6 abilities, text changing effects, counters, zones, etc)
+     *
+     * @return 0 - unknown version, rules can't be cached
+     */
+    private long getRulesVersion() {
+        if (this.appliedEffectsVersion == 0) {
+            return 0;
+        }
+        long res = this.appliedEffectsVersion * 31 + this.changesCounter;
+        return res == 0 ? 1 : res;
+    }
+
+    /**
+     * Abilities rules text of the object (without dynamic hints and info), see CardUtil.getCardRulesWithAdditionalInfo
+     * <p>
+     * Game views build rules of all visible cards for each player and each callback, but most of the cards
+     * don't change rules text between it, so it can be cached by object id and game version.
+     *
+     * @param objectId  object id, can be null (no cache)
+     * @param abilities current abilities of the object
+     * @return new list, can be modified
+     */
+    public List<String> getAbilitiesRules(UUID objectId, String objectName, Abilities<Ability> abilities) {
+        long version = CACHED_RULES_TEXT ? getRulesVersion() : 0;
+        if (version == 0 || objectId == null) {
+            return abilities.getRules(objectName);
+        }
+
+        // same id can be used by different objects (card and permanent, spell, face down), so check abilities too
+        long abilitiesHash = getAbilitiesRulesHash(abilities);
+
+        Map<UUID, CachedRules> cache = getRulesCache();
+        CachedRules cached = cache.get(objectId);
+        if (cached != null && cached.isSame(version, objectName, abilitiesHash)) {
+            if (DebugUtil.GAME_RULES_CACHE_CHECKS) {
+                List<String> needRules = abilities.getRules(objectName);
+                if (!needRules.equals(cached.rules)) {
+                    // how-to fix: rules text changes must generate events or it must be added to getRulesVersion
+                    throw new IllegalStateException("Rules cache integrity failed: cached rules text is outdated for " + objectName);
+                }
+            }
+            return new ArrayList<>(cached.rules);
+        }
+
+        List<String> rules = abilities.getRules(objectName);
+        cache.put(objectId, new CachedRules(version, objectName, abilitiesHash, Collections.unmodifiableList(new ArrayList<>(rules))));
+        return rules;
+    }
+
+    /**
+     * Abilities and their own choices for the rules cache: choices while casting or activating (modes, targets, X)
+     * don't fire events, so it can't be tracked by game version
+     */
+    private static long getAbilitiesRulesHash(Abilities<Ability> abilities) {
+        long res = abilities.size();
+        for (Ability ability : abilities) {
+            res = res * 31 + System.identityHashCode(ability);
+            Modes modes = ability.getModes();
+            for (UUID modeId : modes.getSelectedModes()) {
+                res = res * 31 + modeId.hashCode();
+                Mode mode = modes.get(modeId);
+                if (mode != null) {
+                    for (Target target : mode.getTargets()) {
+                        res = res * 31 + target.getTargets().hashCode();
+                    }
+                }
+            }
+            res = res * 31 + ability.getManaCostsToPay().getX();
+        }
+        return res;
+    }
+
+    private synchronized Map<UUID, CachedRules> getRulesCache() {
+        // game views can be created from different threads (players and watchers)
+        if (this.rulesCache == null) {
+            this.rulesCache = new ConcurrentHashMap<>();
+        }
+        return this.rulesCache;
+    }
+
+    /**
+     * Game version for incremental state based actions check, see GameImpl.checkStateBasedActions
+     * <p>
+     * Known only for applied effects (objects characteristics must be actual), so it contains
+     * all effects apply inputs plus waiting triggers (sagas, dungeons, battles) and copied cards.
+     * Uses changes counters only, so it's much cheaper than the full check (see benchmark in
+     * StateBasedActionsIncrementalTest) and doesn't make real copies of lazy containers
+     *
+     * @return 0 - unknown version, must use full check
+     */
+    public long getStateBasedActionsVersion() {
+        if (!INCREMENTAL_STATE_BASED_ACTIONS || this.appliedEffectsVersion == 0) {
+            return 0;
+        }
+        long res = getChangesVersion();
+        if (res != this.appliedEffectsVersion) {
+            // game changed after last apply, so characteristics can be outdated
+            return 0;
+        }
+        res = res * 31 + this.triggered.size();
+        res = res * 31 + this.copiedCards.size();
+        return res == 0 ? 1 : res;
+    }
+
+    /**
+     * @return true if last state based actions check was without actions and nothing changed after it
+     */
+    public boolean isStateBasedActionsChecked(long version) {
+        return version != 0 && version == this.checkedStateBasedActionsVersion;
+    }
+
+    public void setStateBasedActionsChecked(long version) {
+        this.checkedStateBasedActionsVersion = version;
+    }
+
+    /**
+     * Effects applied and game was not changed after it, so next apply can be skipped
+     */
+    public boolean isEffectsApplyActual() {
+        return INCREMENTAL_EFFECTS_APPLY
+                && this.appliedEffectsVersion != 0
+                && this.appliedEffectsVersion == getChangesVersion();
+    }
+
+    /**
+     * Game changed without events (e.g. direct attach, face down or zone changes), so effects must be applied again
+     */
+    public void setChanged() {
+        changesCounter++;
+    }
+
+    /**
+     * Game version by changes counters (same version - same game): all effects apply inputs (events, values,
+     * direct changes, permanents, effects, turn), so it can be used by any cached data of the game too.
+     * Uses counters only, so it's fast and doesn't make real copies of lazy containers (AI simulations)
+     */
+    public long getChangesVersion() {
+        long res = this.changesCounter;
+        res = mixVersion(res, battlefield.peek().getChangesCounter());
+        res = mixVersion(res, effects.peek().getLayeredEffectsVersion());
+        res = mixVersion(res, this.turnNum);
+        res = mixVersion(res, getTurnStepType() == null ? 0 : getTurnStepType().ordinal() + 1);
+        res = mixVersion(res, this.isDaytime ? 1 : 0);
+        res = mixVersion(res, this.reverseTurnOrder ? 1 : 0);
+        return res == 0 ? 1 : res;
+    }
+
+    private static long mixVersion(long version, long value) {
+        // non linear mix, so diff counters can't give same version by accident (e.g. after rollback)
+        long res = (version * 31 + value) * 0x9E3779B97F4A7C15L;
+        return res ^ (res >>> 32);
+    }
+
+    /**
+     * Debug only: effects apply result (objects characteristics) to find bugs in incremental apply
+     */
+    private String getEffectsApplyResult(Game game) {
+        StringBuilder res = new StringBuilder();
+        for (Permanent permanent : battlefield.get().getAllPermanents()) {
+            res.append("\n").append(permanent.getIdName())
+                    .append(": controller ").append(permanent.getControllerId())
+                    .append(", ").append(permanent.getPower().getValue()).append("/").append(permanent.getToughness().getValue())
+                    .append(", ").append(permanent.getCardType(game))
+                    .append(", ").append(permanent.getSuperType(game))
+                    .append(", ").append(permanent.getSubtype(game))
+                    .append(", ").append(permanent.getColor(game))
+                    .append(", ").append(permanent.isPhasedIn() ? "phased in" : "phased out")
+                    .append(", abilities ").append(getAbilitiesInfo(permanent.getAbilities(game)));
+        }
+        for (Player player : players.values()) {
+            res.append("\n").append(player.getName())
+                    .append(": gain life ").append(player.isCanGainLife())
+                    .append(", lose life ").append(player.isCanLoseLife())
+                    .append(", pay life ").append(player.getPayLifeCostLevel())
+                    .append(", lose by life ").append(player.canLoseByZeroOrLessLife())
+                    .append(", lands ").append(player.getLandsPerTurn())
+                    .append(", hand ").append(player.getMaxHandSize())
+                    .append(", attacked by ").append(player.getMaxAttackedBy())
+                    .append(", play from graveyard ").append(player.canPlayCardsFromGraveyard())
+                    .append(", plot from library ").append(player.canPlotFromTopOfLibrary())
+                    .append(", top card revealed ").append(player.isTopCardRevealed())
+                    .append(", draws on opponents turn ").append(player.isDrawsOnOpponentsTurn())
+                    .append(", alternative costs ").append(player.getAlternativeSourceCosts().size())
+                    .append(", abilities ").append(getAbilitiesInfo(player.getAbilities()));
+        }
+        for (Map.Entry<UUID, CardState> entry : cardState.entrySet()) {
+            res.append("\n").append(entry.getKey())
+                    .append(": card abilities ").append(getAbilitiesInfo(entry.getValue().getAbilities()));
+        }
+        return res.toString();
+    }
+
+    private static String getAbilitiesInfo(Collection<? extends Ability> abilities) {
+        // gained abilities can get new ids on each apply, so compare by classes
+        return abilities.stream()
+                .map(ability -> ability.getClass().getName())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
     // remove end of combat effects
     public void removeEocEffects(Game game) {
-        effects.removeEndOfCombatEffects();
+        effects.get().removeEndOfCombatEffects();
         delayed.removeEndOfCombatAbilities();
         game.applyEffects();
     }
 
     // remove end of turn effects
     public void removeEotEffects(Game game) {
-        effects.removeEndOfTurnEffects(game);
+        effects.get().removeEndOfTurnEffects(game);
         delayed.removeEndOfTurnAbilities(game);
-        exile.cleanupEndOfTurnZones(game);
+        exile.get().cleanupEndOfTurnZones(game);
         game.applyEffects();
     }
 
@@ -705,17 +1039,17 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void addEffect(ContinuousEffect effect, UUID sourceId, Ability source) {
         if (sourceId == null) {
-            effects.addEffect(effect, source);
+            effects.get().addEffect(effect, source);
         } else {
-            effects.addEffect(effect, sourceId, source);
+            effects.get().addEffect(effect, sourceId, source);
         }
     }
 
     private void addTrigger(TriggeredAbility ability, UUID sourceId, MageObject attachedTo) {
         if (sourceId == null) {
-            triggers.add(ability, attachedTo);
+            triggers.get().add(ability, attachedTo);
         } else {
-            triggers.add(ability, sourceId, attachedTo);
+            triggers.get().add(ability, sourceId, attachedTo);
         }
     }
 
@@ -775,8 +1109,8 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public Permanent getPermanent(UUID permanentId) {
-        if (permanentId != null && battlefield.containsPermanent(permanentId)) {
-            return battlefield.getPermanent(permanentId);
+        if (permanentId != null && battlefield.get().containsPermanent(permanentId)) {
+            return battlefield.get().getPermanent(permanentId);
         }
         return null;
     }
@@ -789,6 +1123,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setZone(UUID id, Zone zone) {
+        changesCounter++;
         if (zone == null) {
             zones.remove(id);
         } else {
@@ -988,9 +1323,10 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
-        watchers.watch(event, game);
+        changesCounter++;
+        watchers.get().watch(event, game);
         delayed.checkTriggers(event, game);
-        triggers.checkTriggers(event, game);
+        triggers.get().checkTriggers(event, game);
     }
 
     public boolean replaceEvent(GameEvent event, Game game) {
@@ -998,10 +1334,11 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
-        if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
+        changesCounter++;
+        if (effects.get().preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
-        return effects.replaceEvent(event, game);
+        return effects.get().replaceEvent(event, game);
     }
 
     public List<GameEvent> createEventGroups(List<GameEvent> events, Game game) {
@@ -1175,7 +1512,7 @@ public class GameState implements Serializable, Copyable<GameState> {
             Watcher newWatcher = watcher.copy();
             newWatcher.setControllerId(controllerId);
             newWatcher.setSourceId(attachedTo == null ? ability.getSourceId() : attachedTo.getId());
-            watchers.add(newWatcher);
+            watchers.get().add(newWatcher);
         }
 
         for (Ability sub : ability.getSubAbilities()) {
@@ -1257,7 +1594,7 @@ public class GameState implements Serializable, Copyable<GameState> {
             Watcher newWatcher = watcher.copy();
             newWatcher.setControllerId(ability.getControllerId());
             newWatcher.setSourceId(ability.getSourceId());
-            this.watchers.add(newWatcher);
+            this.watchers.get().add(newWatcher);
         }
     }
 
@@ -1275,7 +1612,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public ContinuousEffects getContinuousEffects() {
-        return effects;
+        return effects.get();
     }
 
     public Object getValue(String valueId) {
@@ -1319,6 +1656,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param value
      */
     public void setValue(String valueId, Object value) {
+        changesCounter++;
         values.put(valueId, value);
     }
 
@@ -1328,6 +1666,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param valueId
      */
     public void removeValue(String valueId) {
+        changesCounter++;
         values.remove(valueId);
     }
 
@@ -1422,7 +1761,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param sourceId
      */
     public void removeTriggersOfSourceId(UUID sourceId) {
-        triggers.removeAbilitiesOfSource(sourceId);
+        triggers.get().removeAbilitiesOfSource(sourceId);
     }
 
     /**
@@ -1430,7 +1769,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     private void reset() {
         // All gained abilities have to be removed to prevent adding it multiple times
-        triggers.removeAllGainedAbilities();
+        triggers.get().removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
         for (CardState state : cardState.values()) {
             state.clearAbilities();
@@ -1457,7 +1796,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @return
      */
     public TriggeredAbilities getTriggers() {
-        return triggers;
+        return triggers.get();
     }
 
     public CardState getCardState(UUID cardId) {
@@ -1501,11 +1840,11 @@ public class GameState implements Serializable, Copyable<GameState> {
      * Must add copy of the original watcher, e.g. from an ability
      */
     public void addWatcher(Watcher newWatcher) {
-        this.watchers.add(newWatcher);
+        this.watchers.get().add(newWatcher);
     }
 
     public void resetWatchers() {
-        this.watchers.reset();
+        this.watchers.get().reset();
     }
 
     public int getZoneChangeCounter(UUID objectId) {
@@ -1524,6 +1863,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setZoneChangeCounter(UUID objectId, int value) {
+        changesCounter++;
         this.zoneChangeCounter.put(objectId, value);
     }
 
@@ -1,61 +1,368 @@
-
 package mage.game;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import mage.util.BinaryDelta;
+import mage.util.Copier;
+import mage.util.FastByteArrayOutputStream;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
 import org.apache.log4j.Logger;
 
 /**
+ * Saved game states for bookmarks (undo) and replays.
+ * <p>
+ * Memory optimization:
+ * - only last states keep as full objects (fast undo), all older states keep as compressed key frames
+ * (serialized state) or as compressed delta to the nearest key frame;
+ * - state serializes by the game thread on save (state copy shares some objects with the game, e.g. events
+ * or copied cards, so it can't be serialized later), old states compact (delta and compress) by background task;
+ * - history is limited, oldest states will be removed (bounded memory for long games).
+ * <p>
+ * Old states will be rebuilt on demand by {@link #get(int)} or {@link #rollback(int)}.
+ * State's index is the same all the time (removed states are not available, see {@link #getFirstIndex()}).
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+
+    private static final int FULL_STATES_LIMIT = 10; // last states without compact
+    private static final int KEY_FRAME_INTERVAL = 25; // max states between key frames
+    private static final int MAX_STATES = 1000; // history limit, oldest states will be removed
+    private static final int MAX_WAITING_STATES = 50; // too slow background compact, so caller's thread must help
+
+    // shared by all games, compact is a low priority work
+    private static final ExecutorService compactExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "GAME STATES COMPACT");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private final List<SavedState> states;
+    private int firstIndex = 0; // index of the first stored state (older states removed by history limit)
+    private transient boolean compactScheduled;
 
     public GameStates() {
         this.states = new ArrayList<>();
     }
 
     public void save(GameState gameState) {
-        states.add(gameState.copy());
+        GameState stateCopy = gameState.copy();
+        SavedState savedState = new SavedState(stateCopy);
+        try {
+            SerializationFormat format = SerializationFormat.getDefault();
+            savedState.stateData = SerializationUtil.toBytes(stateCopy, format, false);
+            savedState.format = format.getId();
+        } catch (Exception e) {
+            // keep full state only
+            logger.warn("Can't serialize saved game state: " + e.getMessage());
+            savedState.failed = true;
+        }
+        boolean needCompactNow;
+        synchronized (this) {
+            states.add(savedState);
+            removeOldestStates();
+            needCompactNow = getWaitingStatesCount() > MAX_WAITING_STATES;
+            if (!needCompactNow && !compactScheduled && getWaitingStatesCount() > 0) {
+                compactScheduled = true;
+                try {
+                    compactExecutor.execute(this::compactInBackground);
+                } catch (RejectedExecutionException e) {
+                    compactScheduled = false;
+                    needCompactNow = true;
+                }
+            }
+        }
+        if (needCompactNow) {
+            compactOldStates();
+        }
         //logger.warn("states size: " + states.size());
     }
 
-    public int getSize() {
-        return states.size();
+    /**
+     * Total amount of saved states (including removed by history limit), so last state's index is getSize() - 1
+     */
+    public synchronized int getSize() {
+        return firstIndex + states.size();
+    }
+
+    /**
+     * Index of the oldest available state
+     */
+    public synchronized int getFirstIndex() {
+        return firstIndex;
     }
 
     public GameState rollback(int index) {
-        if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
+        synchronized (this) {
+            if (states.isEmpty() || index >= getSize()) {
+                return null;
+            }
+            while (getSize() > index + 1 && !states.isEmpty()) {
                 states.remove(states.size() - 1);
             }
             logger.trace("Rolling back state: " + index);
-            return states.get(index);
         }
-        return null;
+        return get(index);
     }
 
-    public int remove(int index) {
-        if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
+    public synchronized int remove(int index) {
+        if (!states.isEmpty() && index < getSize()) {
+            while (getSize() > index && !states.isEmpty()) {
                 states.remove(states.size() - 1);
             }
+            firstIndex = Math.min(firstIndex, index);
         }
-        return states.size();
+        return getSize();
     }
 
     public GameState get(int index) {
-        if (index < states.size()) {
-            return states.get(index);
+        SavedState savedState;
+        synchronized (this) {
+            if (index < firstIndex || index >= getSize()) {
+                return null;
+            }
+            savedState = states.get(index - firstIndex);
+            if (savedState.state != null) {
+                // object can be used by a game after rollback, so it must not be compacted
+                savedState.used = true;
+                savedState.stateData = null;
+                return savedState.state;
+            }
+        }
+
+        // compacted data never changes, so it can be rebuilt without lock
+        try {
+            byte[] data = savedState.keyFrame == savedState
+                    ? decompress(savedState.data)
+                    : BinaryDelta.patch(decompress(savedState.keyFrame.data), decompress(savedState.data));
+            return (GameState) SerializationUtil.fromBytes(data, SerializationFormat.findById(savedState.format), false, Copier.getLoader());
+        } catch (IOException | ClassNotFoundException | DataFormatException | IllegalArgumentException e) {
+            logger.error("Can't rebuild saved game state " + index, e);
         }
         return null;
     }
 
-    public void clear() {
+    public synchronized void clear() {
         states.clear();
+        firstIndex = 0;
+    }
+
+    /**
+     * Total size of compacted states (debug info)
+     */
+    public synchronized long getCompactedDataSize() {
+        return states.stream()
+                .filter(savedState -> savedState.data != null)
+                .mapToLong(savedState -> savedState.data.length)
+                .sum();
+    }
+
+    /**
+     * Debug/test only: compact all old states right now
+     */
+    public void waitCompaction() throws InterruptedException {
+        compactOldStates();
+        synchronized (this) {
+            while (states.stream().anyMatch(savedState -> savedState.compacting)) {
+                this.wait(100);
+            }
+        }
+    }
+
+    private void removeOldestStates() {
+        // remove oldest key frame with all deltas to it
+        while (states.size() > MAX_STATES) {
+            states.remove(0);
+            firstIndex++;
+            while (!states.isEmpty() && states.get(0).isDelta()) {
+                states.remove(0);
+                firstIndex++;
+            }
+        }
+    }
+
+    private int getWaitingStatesCount() {
+        int res = 0;
+        for (int i = 0; i < states.size() - FULL_STATES_LIMIT; i++) {
+            if (states.get(i).canCompact()) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    private void compactInBackground() {
+        try {
+            compactOldStates();
+        } finally {
+            boolean needMore;
+            synchronized (this) {
+                compactScheduled = false;
+                needMore = getWaitingStatesCount() > 0;
+            }
+            if (needMore) {
+                compactOldStates();
+            }
+        }
+    }
+
+    private void compactOldStates() {
+        // cache with uncompressed data of the last used key frame (only while compact)
+        SavedState cachedKeyFrame = null;
+        byte[] cachedKeyFrameData = null;
+
+        while (true) {
+            SavedState savedState = null;
+            SavedState keyFrame = null;
+            synchronized (this) {
+                for (int i = 0; i < states.size() - FULL_STATES_LIMIT; i++) {
+                    if (states.get(i).canCompact()) {
+                        savedState = states.get(i);
+                        keyFrame = findKeyFrame(i);
+                        break;
+                    }
+                }
+                if (savedState == null) {
+                    this.notifyAll();
+                    return;
+                }
+                savedState.compacting = true;
+            }
+
+            // serialized data never changes after save, so it can be compacted without lock
+            byte[] stateData = savedState.stateData;
+            byte[] data = null;
+            Exception error = null;
+            try {
+                if (keyFrame == null) {
+                    // new key frame
+                    data = compress(stateData, stateData.length);
+                    keyFrame = savedState;
+                    cachedKeyFrame = savedState;
+                    cachedKeyFrameData = stateData;
+                } else {
+                    // delta to key frame
+                    if (cachedKeyFrame != keyFrame) {
+                        cachedKeyFrame = keyFrame;
+                        cachedKeyFrameData = decompress(keyFrame.data);
+                    }
+                    byte[] delta = BinaryDelta.diff(cachedKeyFrameData, cachedKeyFrameData.length, stateData, stateData.length);
+                    data = compress(delta, delta.length);
+                }
+            } catch (Exception e) {
+                // keep full state
+                error = e;
+            }
+
+            synchronized (this) {
+                savedState.compacting = false;
+                if (data == null) {
+                    logger.warn("Can't compact saved game state: " + error.getMessage());
+                    savedState.failed = true;
+                    savedState.stateData = null;
+                } else if (!savedState.used
+                        && states.contains(savedState)
+                        && (keyFrame == savedState || states.contains(keyFrame))) {
+                    savedState.data = data;
+                    savedState.keyFrame = keyFrame;
+                    savedState.state = null;
+                    savedState.stateData = null;
+                }
+            }
+        }
+    }
+
+    private SavedState findKeyFrame(int listIndex) {
+        for (int i = listIndex - 1; i >= 0 && i > listIndex - KEY_FRAME_INTERVAL; i--) {
+            SavedState savedState = states.get(i);
+            if (savedState.keyFrame == savedState) {
+                return savedState;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        // consistent data for saved games
+        out.defaultWriteObject();
+    }
+
+    private static byte[] compress(byte[] data, int size) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data, 0, size);
+            deflater.finish();
+            ByteArrayOutputStream res = new ByteArrayOutputStream(Math.max(64, size / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                res.write(buffer, 0, count);
+            }
+            return res.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] data) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            FastByteArrayOutputStream res = new FastByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("Unexpected end of compressed state data");
+                }
+                res.write(buffer, 0, count);
+            }
+            return Arrays.copyOf(res.getByteArray(), res.getSize());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Saved state: full object or compressed data (key frame or delta to key frame)
+     */
+    private static class SavedState implements Serializable {
+
+        private GameState state;
+        private byte[] stateData; // serialized state on save, waiting for compact
+        private byte[] data;
+        private byte format; // serialization format of the data
+        private SavedState keyFrame; // null for full object, self for key frame
+        private transient boolean used; // full object was returned to the game, so it can't be compacted
+        private transient boolean compacting;
+        private transient boolean failed;
+
+        SavedState(GameState state) {
+            this.state = state;
+        }
+
+        boolean isDelta() {
+            return keyFrame != null && keyFrame != this;
+        }
+
+        boolean canCompact() {
+            return state != null && stateData != null && !used && !compacting && !failed;
+        }
     }
 }
@@ -1721,6 +1721,7 @@ public class Combat implements Serializable, Copyable<Combat> {
                         creature.setTapped(false);
                         attackersTappedByAttack.remove(creature.getId());
                     }
+                    game.getState().setChanged(); // undo without events
                 }
                 if (group.attackers.isEmpty()) {
                     groups.remove(group);
@@ -6,6 +6,8 @@ import mage.constants.CardType;
 import mage.constants.RangeOfInfluence;
 import mage.filter.FilterPermanent;
 import mage.game.Game;
+import mage.util.Copyable;
+import mage.util.DebugUtil;
 
 import java.io.Serializable;
 import java.util.*;
@@ -15,10 +17,18 @@ import java.util.stream.Collectors;
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class Battlefield implements Serializable {
+public class Battlefield implements Serializable, Copyable<Battlefield> {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // fast search for active (phased in) permanents: all and by controller (in battlefield order),
+    // rebuilds on demand after any changes (add, remove, control change, phasing), see invalidateIndexes
+    private transient List<Permanent> activeIndex = null;
+    private transient Map<UUID, List<Permanent>> activeByControllerIndex = null;
+
+    // upcounting number of permanents changes (add, remove, control change, phasing), used by incremental effects apply
+    private long changesCounter = 0;
+
     public Battlefield() {
     }
 
@@ -26,8 +36,10 @@ public class Battlefield implements Serializable {
         for (Entry<UUID, Permanent> entry : battlefield.field.entrySet()) {
             field.put(entry.getKey(), entry.getValue().copy());
         }
+        this.changesCounter = battlefield.changesCounter;
     }
 
+    @Override
     public Battlefield copy() {
         return new Battlefield(this);
     }
@@ -36,10 +48,94 @@ public class Battlefield implements Serializable {
         for (Permanent perm : field.values()) {
             perm.reset(game);
         }
+        clearIndexes(); // control reset
     }
 
     public void clear() {
         field.clear();
+        invalidateIndexes();
+    }
+
+    /**
+     * Must be called after any permanent's control or phasing changes
+     */
+    public void invalidateIndexes() {
+        this.changesCounter++;
+        clearIndexes();
+    }
+
+    private void clearIndexes() {
+        this.activeIndex = null;
+        this.activeByControllerIndex = null;
+    }
+
+    /**
+     * Permanents changes version (add, remove, control change, phasing), see GameState.applyEffects
+     */
+    public long getChangesCounter() {
+        return changesCounter;
+    }
+
+    private void prepareIndexes() {
+        if (this.activeIndex != null) {
+            if (DebugUtil.GAME_BATTLEFIELD_INDEX_CHECKS) {
+                checkIndexes();
+            }
+            return;
+        }
+        List<Permanent> active = new ArrayList<>(field.size());
+        Map<UUID, List<Permanent>> activeByController = new HashMap<>();
+        for (Permanent perm : field.values()) {
+            if (perm.isPhasedIn()) {
+                active.add(perm);
+                activeByController.computeIfAbsent(perm.getControllerId(), k -> new ArrayList<>()).add(perm);
+            }
+        }
+        this.activeIndex = active;
+        this.activeByControllerIndex = activeByController;
+    }
+
+    private void checkIndexes() {
+        // index must be same as full scan (debug only, see DebugUtil.GAME_BATTLEFIELD_INDEX_CHECKS)
+        List<Permanent> needActive = field.values()
+                .stream()
+                .filter(Permanent::isPhasedIn)
+                .collect(Collectors.toList());
+        boolean isFine = needActive.equals(this.activeIndex);
+        for (Permanent perm : needActive) {
+            List<Permanent> controlled = this.activeByControllerIndex.get(perm.getControllerId());
+            isFine &= controlled != null && controlled.contains(perm);
+        }
+        if (!isFine) {
+            throw new IllegalStateException("Wrong code usage: battlefield indexes are outdated, "
+                    + "must call invalidateIndexes after control or phasing changes");
+        }
+    }
+
+    private List<Permanent> getActiveIndex() {
+        prepareIndexes();
+        return this.activeIndex;
+    }
+
+    private List<Permanent> getActiveIndex(UUID controllerId) {
+        prepareIndexes();
+        return this.activeByControllerIndex.getOrDefault(controllerId, Collections.emptyList());
+    }
+
+    /**
+     * Read only view of all active (phased in) permanents, use it for iteration without a new list.
+     * It's a snapshot, so don't keep it after battlefield changes.
+     */
+    public List<Permanent> getAllActivePermanentsView() {
+        return Collections.unmodifiableList(getActiveIndex());
+    }
+
+    /**
+     * Read only view of all active (phased in) permanents controlled by the player,
+     * use it for iteration without a new list. It's a snapshot, so don't keep it after battlefield changes.
+     */
+    public List<Permanent> getAllActivePermanentsView(UUID controllerId) {
+        return Collections.unmodifiableList(getActiveIndex(controllerId));
     }
 
     /**
@@ -56,13 +152,13 @@ public class Battlefield implements Serializable {
      * @return count
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
-                        && permanent.isPhasedIn())
-                .count();
-
+        int res = 0;
+        for (Permanent permanent : getActiveIndex(controllerId)) {
+            if (filter.match(permanent, game)) {
+                res++;
+            }
+        }
+        return res;
     }
 
     /**
@@ -76,20 +172,15 @@ public class Battlefield implements Serializable {
      * @return count
      */
     public int count(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
-                    .count();
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
-                    .stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count();
+        List<UUID> range = game.getRangeOfInfluence() == RangeOfInfluence.ALL ? null : game.getState().getPlayersInRange(sourcePlayerId, game);
+        int res = 0;
+        for (Permanent permanent : getActiveIndex()) {
+            if ((range == null || range.contains(permanent.getControllerId()))
+                    && filter.match(permanent, sourcePlayerId, source, game)) {
+                res++;
+            }
         }
+        return res;
     }
 
     public boolean containsControlled(FilterPermanent filter, Ability source, Game game, int num) {
@@ -109,12 +200,16 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
-                        && permanent.isPhasedIn())
-                .count() >= num;
+        if (num <= 0) {
+            return true;
+        }
+        int found = 0;
+        for (Permanent permanent : getActiveIndex(controllerId)) {
+            if (filter.match(permanent, controllerId, source, game) && ++found >= num) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean contains(FilterPermanent filter, Ability source, Game game, int num) {
@@ -134,23 +229,24 @@ public class Battlefield implements Serializable {
      * @return boolean
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count() >= num;
-
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
-                    .count() >= num;
+        if (num <= 0) {
+            return true;
+        }
+        List<UUID> range = game.getRangeOfInfluence() == RangeOfInfluence.ALL ? null : game.getState().getPlayersInRange(sourcePlayerId, game);
+        int found = 0;
+        for (Permanent permanent : getActiveIndex()) {
+            if ((range == null || range.contains(permanent.getControllerId()))
+                    && filter.match(permanent, sourcePlayerId, source, game)
+                    && ++found >= num) {
+                return true;
+            }
         }
+        return false;
     }
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        invalidateIndexes();
     }
 
     /**
@@ -166,7 +262,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            invalidateIndexes();
+        }
     }
 
     /**
@@ -200,10 +298,7 @@ public class Battlefield implements Serializable {
     }
 
     public List<Permanent> getAllActivePermanents() {
-        return field.values()
-                .stream()
-                .filter(Permanent::isPhasedIn)
-                .collect(Collectors.toList());
+        return new ArrayList<>(getActiveIndex());
     }
 
     /**
@@ -215,11 +310,7 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(getActiveIndex(controllerId));
     }
 
     /**
@@ -232,10 +323,14 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(CardType type, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.getCardType(game).contains(type))
-                .collect(Collectors.toList());
+        // card types can be changed by layer effects at any time, so it uses full search instead index
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getActiveIndex()) {
+            if (perm.getCardType(game).contains(type)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -249,10 +344,13 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getActiveIndex()) {
+            if (filter.match(perm, game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -267,10 +365,13 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getActiveIndex(controllerId)) {
+            if (filter.match(perm, game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -299,18 +400,15 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
-        if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourcePlayerId, source, game))
-                    .collect(Collectors.toList());
-        } else {
-            List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
-                    .stream()
-                    .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
-                            && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
+        List<UUID> range = game.getRangeOfInfluence() == RangeOfInfluence.ALL ? null : game.getState().getPlayersInRange(sourcePlayerId, game);
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getActiveIndex()) {
+            if ((range == null || range.contains(perm.getControllerId()))
+                    && filter.match(perm, sourcePlayerId, source, game)) {
+                res.add(perm);
+            }
         }
+        return res;
     }
 
     /**
@@ -327,10 +425,9 @@ public class Battlefield implements Serializable {
             return getAllActivePermanents();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
+            return getActiveIndex()
                     .stream()
-                    .filter(perm -> perm.isPhasedIn()
-                            && range.contains(perm.getControllerId()))
+                    .filter(perm -> range.contains(perm.getControllerId()))
                     .collect(Collectors.toList());
 
         }
@@ -358,6 +455,7 @@ public class Battlefield implements Serializable {
                 perm.resetControl();
             }
         }
+        clearIndexes();
     }
 
     /**
@@ -626,6 +626,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     @Override
     public void setFaceDown(boolean value, Game game) {
         this.faceDown = value;
+        game.getState().setChanged();
     }
 
     @Override
@@ -720,6 +721,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (!phasedIn && !replaceEvent(EventType.PHASE_IN, game) && (!onlyDirect || !indirectPhase)) {
             this.phasedIn = true;
             this.indirectPhase = false;
+            game.getBattlefield().invalidateIndexes();
             game.informPlayers(getLogName() + " phased in");
             for (UUID attachedId : this.getAttachments()) {
                 Permanent attachedPerm = game.getPermanent(attachedId);
@@ -750,6 +752,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             this.removeFromCombat(game);
             this.phasedIn = false;
             this.indirectPhase = indirectPhase;
+            game.getBattlefield().invalidateIndexes();
             game.informPlayers(getLogName() + " phased out");
             fireEvent(EventType.PHASED_OUT, game);
             return true;
@@ -840,6 +843,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         // must change abilities controller too
         this.controllerId = newControllerId;
         this.getAbilities().setControllerId(newControllerId);
+        game.getBattlefield().invalidateIndexes();
         return true;
     }
 
@@ -910,6 +914,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     @Override
     public void unattach(Game game) {
         this.attachedTo = null;
+        game.getState().setChanged();
         this.addInfo("attachedTo", null, game);
     }
 
@@ -935,6 +940,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         }
         this.attachedTo = attachToObjectId;
         this.attachedToZoneChangeCounter = game.getState().getZoneChangeCounter(attachToObjectId);
+        game.getState().setChanged();
         for (Ability ability : this.getAbilities()) {
             for (Effect value : ability.getEffects(game, EffectType.CONTINUOUS)) {
                 ContinuousEffect effect = (ContinuousEffect) value;
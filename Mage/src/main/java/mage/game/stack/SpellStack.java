@@ -11,12 +11,13 @@ import mage.constants.PutCards;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.util.CardUtil;
+import mage.util.Copyable;
 import org.apache.log4j.Logger;
 
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class SpellStack extends ArrayDeque<StackObject> {
+public class SpellStack extends ArrayDeque<StackObject> implements Copyable<SpellStack> {
 
     private static final Logger logger = Logger.getLogger(SpellStack.class);
 
@@ -127,6 +128,7 @@ public class SpellStack extends ArrayDeque<StackObject> {
         return null;
     }
 
+    @Override
     public SpellStack copy() {
         return new SpellStack(this);
     }
@@ -275,6 +275,9 @@ public class ManaPool implements Serializable {
                 it.remove();
             }
         }
+        if (total > 0) {
+            game.getState().setChanged(); // lost mana without events
+        }
         return total;
     }
 
@@ -200,6 +200,14 @@ public abstract class PlayerImpl implements Player, Serializable {
     // Used during available mana calculation to give back possible available net mana from triggered mana abilities (No need to copy)
     protected final List<List<Mana>> availableTriggeredManaList = new ArrayList<>();
 
+    // GUI only: playable objects for the last game state (game view can be updated many times without game changes)
+    // (No need to copy)
+    private transient PlayableObjectsList playableObjectsCache = null;
+    private transient Zone playableObjectsCacheZone = null;
+    private transient long playableObjectsCacheVersion = 0;
+    private transient UUID playableObjectsCachePriorityPlayerId = null;
+    private transient int playableObjectsCalcCount = 0; // debug/test only: real calculations amount
+
     protected PlayerImpl(String name, RangeOfInfluence range) {
         this(UUID.randomUUID());
         this.name = name;
@@ -3387,7 +3395,14 @@ public abstract class PlayerImpl implements Player, Serializable {
     public ManaOptions getManaAvailable(Game originalGame) {
         // workaround to fix a triggers list modification bug (game must be immutable on playable calculations)
         Game game = originalGame.createSimulationForPlayableCalc();
+        try {
+            return getManaAvailableInner(game);
+        } finally {
+            game.getState().releaseSharedContainers();
+        }
+    }
 
+    private ManaOptions getManaAvailableInner(Game game) {
         ManaOptions availableMana = new ManaOptions();
         availableMana.addMana(manaPool.getMana());
         // conditional mana
@@ -4080,12 +4095,20 @@ public abstract class PlayerImpl implements Player, Serializable {
      * @return
      */
     public List<ActivatedAbility> getPlayable(Game originalGame, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
-        List<ActivatedAbility> playable = new ArrayList<>();
         if (shouldSkipGettingPlayable(originalGame)) {
-            return playable;
+            return new ArrayList<>();
         }
 
         Game game = originalGame.createSimulationForPlayableCalc();
+        try {
+            return getPlayableInner(game, hidden, fromZone, hideDuplicatedAbilities);
+        } finally {
+            game.getState().releaseSharedContainers();
+        }
+    }
+
+    private List<ActivatedAbility> getPlayableInner(Game game, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        List<ActivatedAbility> playable = new ArrayList<>();
         ManaOptions availableMana = getManaAvailable(game); // get available mana options (mana pool and conditional mana added (but conditional still lose condition))
         boolean fromAll = fromZone.equals(Zone.ALL);
         if (hidden && (fromAll || fromZone == Zone.HAND)) {
@@ -4275,6 +4298,35 @@ public abstract class PlayerImpl implements Player, Serializable {
      */
     @Override
     public PlayableObjectsList getPlayableObjects(Game game, Zone zone) {
+        if (game.isSimulation()) {
+            return calcPlayableObjects(game, zone);
+        }
+
+        // same game version must have same playable objects, so use the cache
+        // (version contains all game changes, priority player is not a game change)
+        long version = game.getState().getChangesVersion();
+        UUID priorityPlayerId = game.getState().getPriorityPlayerId();
+        if (this.playableObjectsCache == null
+                || this.playableObjectsCacheZone != zone
+                || this.playableObjectsCacheVersion != version
+                || !Objects.equals(this.playableObjectsCachePriorityPlayerId, priorityPlayerId)) {
+            this.playableObjectsCache = calcPlayableObjects(game, zone);
+            this.playableObjectsCacheZone = zone;
+            this.playableObjectsCacheVersion = version;
+            this.playableObjectsCachePriorityPlayerId = priorityPlayerId;
+            this.playableObjectsCalcCount++;
+        }
+        return this.playableObjectsCache.copy();
+    }
+
+    /**
+     * Debug/test only: amount of real playable objects calculations (without cached results)
+     */
+    public int getPlayableObjectsCalcCount() {
+        return this.playableObjectsCalcCount;
+    }
+
+    private PlayableObjectsList calcPlayableObjects(Game game, Zone zone) {
         // collect abilities per object
         List<ActivatedAbility> playableAbilities = getPlayable(game, true, zone, false); // do not hide duplicated abilities/cards
         Map<UUID, List<ActivatedAbility>> playableObjects = new HashMap<>();
@@ -0,0 +1,168 @@
+package mage.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Simple binary delta encoder (rsync like): target data encodes as commands to copy blocks from base data
+ * or to insert new bytes. Used to keep serialized game states as compact changes to the key state.
+ * <p>
+ * Delta format: list of commands, each command starts with varint header:
+ * - (len << 1) | 0 - insert: next len bytes must be inserted as is;
+ * - (len << 1) | 1 - copy: next varint is offset in base data, len bytes must be copied from it;
+ */
+public final class BinaryDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_MULTIPLIER_POW; // HASH_MULTIPLIER ^ (BLOCK_SIZE - 1)
+
+    static {
+        int pow = 1;
+        for (int i = 0; i < BLOCK_SIZE - 1; i++) {
+            pow *= HASH_MULTIPLIER;
+        }
+        HASH_MULTIPLIER_POW = pow;
+    }
+
+    private BinaryDelta() {
+    }
+
+    public static byte[] diff(byte[] base, int baseSize, byte[] target, int targetSize) {
+        ByteArrayOutputStream res = new ByteArrayOutputStream(Math.max(64, targetSize / 8));
+        if (baseSize < BLOCK_SIZE || targetSize < BLOCK_SIZE) {
+            writeInsert(res, target, 0, targetSize);
+            return res.toByteArray();
+        }
+
+        // index all aligned blocks of the base data (open addressing table: hash -> block offset + 1)
+        int blocksCount = baseSize / BLOCK_SIZE;
+        int tableSize = Integer.highestOneBit(blocksCount * 2 + 1) << 1;
+        int[] tableHashes = new int[tableSize];
+        int[] tableOffsets = new int[tableSize];
+        for (int block = 0; block < blocksCount; block++) {
+            int offset = block * BLOCK_SIZE;
+            int hash = hash(base, offset);
+            int slot = hash & (tableSize - 1);
+            while (tableOffsets[slot] != 0 && tableHashes[slot] != hash) {
+                slot = (slot + 1) & (tableSize - 1);
+            }
+            if (tableOffsets[slot] == 0) {
+                // keep first block only
+                tableHashes[slot] = hash;
+                tableOffsets[slot] = offset + 1;
+            }
+        }
+
+        int insertStart = 0;
+        int pos = 0;
+        int hash = hash(target, 0);
+        while (pos + BLOCK_SIZE <= targetSize) {
+            int baseOffset = findBlock(tableHashes, tableOffsets, hash, base, target, pos);
+            if (baseOffset >= 0) {
+                // extend match forward
+                int len = BLOCK_SIZE;
+                while (pos + len < targetSize && baseOffset + len < baseSize
+                        && target[pos + len] == base[baseOffset + len]) {
+                    len++;
+                }
+                // extend match backward (to the not yet inserted data)
+                int back = 0;
+                while (pos - back > insertStart && baseOffset - back > 0
+                        && target[pos - back - 1] == base[baseOffset - back - 1]) {
+                    back++;
+                }
+                writeInsert(res, target, insertStart, pos - back - insertStart);
+                writeCopy(res, baseOffset - back, len + back);
+                pos += len;
+                insertStart = pos;
+                if (pos + BLOCK_SIZE <= targetSize) {
+                    hash = hash(target, pos);
+                }
+            } else {
+                // roll hash to the next byte
+                if (pos + BLOCK_SIZE < targetSize) {
+                    hash = (hash - target[pos] * HASH_MULTIPLIER_POW) * HASH_MULTIPLIER + target[pos + BLOCK_SIZE];
+                }
+                pos++;
+            }
+        }
+        writeInsert(res, target, insertStart, targetSize - insertStart);
+        return res.toByteArray();
+    }
+
+    public static byte[] patch(byte[] base, byte[] delta) {
+        FastByteArrayOutputStream res = new FastByteArrayOutputStream(Math.max(base.length, 1024));
+        int[] pos = new int[]{0};
+        while (pos[0] < delta.length) {
+            int header = readVarInt(delta, pos);
+            int len = header >>> 1;
+            if ((header & 1) == 0) {
+                res.write(delta, pos[0], len);
+                pos[0] += len;
+            } else {
+                int offset = readVarInt(delta, pos);
+                res.write(base, offset, len);
+            }
+        }
+        return Arrays.copyOf(res.getByteArray(), res.getSize());
+    }
+
+    private static int findBlock(int[] tableHashes, int[] tableOffsets, int hash, byte[] base, byte[] target, int targetPos) {
+        int slot = hash & (tableHashes.length - 1);
+        while (tableOffsets[slot] != 0) {
+            if (tableHashes[slot] == hash) {
+                int offset = tableOffsets[slot] - 1;
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    if (base[offset + i] != target[targetPos + i]) {
+                        return -1;
+                    }
+                }
+                return offset;
+            }
+            slot = (slot + 1) & (tableHashes.length - 1);
+        }
+        return -1;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int res = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            res = res * HASH_MULTIPLIER + data[offset + i];
+        }
+        return res;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] data, int offset, int len) {
+        if (len <= 0) {
+            return;
+        }
+        writeVarInt(out, len << 1);
+        out.write(data, offset, len);
+    }
+
+    private static void writeCopy(ByteArrayOutputStream out, int offset, int len) {
+        writeVarInt(out, (len << 1) | 1);
+        writeVarInt(out, offset);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int res = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos[0]++];
+            res |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return res;
+    }
+}
@@ -1216,7 +1216,12 @@ public final class CardUtil {
     public static List<String> getCardRulesWithAdditionalInfo(Game game, UUID cardId, String cardName,
                                                               Abilities<Ability> rulesSource, Abilities<Ability> hintsSource) {
         try {
-            List<String> rules = rulesSource.getRules(cardName);
+            List<String> rules;
+            if (game == null) {
+                rules = rulesSource.getRules(cardName);
+            } else {
+                rules = game.getState().getAbilitiesRules(cardId, cardName, rulesSource);
+            }
 
             if (game == null || game.getPhase() == null) {
                 // dynamic hints for started game only
@@ -1784,7 +1789,7 @@ public final class CardUtil {
         return "pay " + text;
     }
 
-    private static boolean isImmutableObject(Object o) {
+    public static boolean isImmutableObject(Object o) {
         return o == null
                 || o instanceof Number || o instanceof Boolean || o instanceof String
                 || o instanceof MageObjectReference || o instanceof UUID
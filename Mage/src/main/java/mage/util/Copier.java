@@ -2,12 +2,10 @@
 
 package mage.util;
 
-import java.io.ByteArrayInputStream;
+import mage.util.serialization.SerializationFormat;
+import mage.util.serialization.SerializationUtil;
+
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  *
@@ -22,33 +20,17 @@ public class Copier<T> {
         Copier.loader = loader;
     }
 
-    public T copy(T obj) {
-        T copy = null;
+    public static ClassLoader getLoader() {
+        return loader != null ? loader : Copier.class.getClassLoader();
+    }
 
-        FastByteArrayOutputStream fbos = null;
-        ObjectOutputStream out = null;
-        ObjectInputStream in = null;
+    public T copy(T obj) {
         try {
-            fbos = new FastByteArrayOutputStream();
-            out = new ObjectOutputStream(fbos);
-
-            // Write the object out to a byte array
-            out.writeObject(obj);
-            out.flush();
-
-            // Retrieve an input stream from the byte array and read
-            // a copy of the object back in.
-            in = new CopierObjectInputStream(loader, fbos.getInputStream());
-            copy = (T) in.readObject();
-        }
-        catch(IOException | ClassNotFoundException e) {
+            byte[] data = SerializationUtil.toBytes(obj, SerializationFormat.getDefault(), false);
+            return (T) SerializationUtil.fromBytes(data, SerializationFormat.getDefault(), false, getLoader());
+        } catch (IOException | ClassNotFoundException e) {
             e.printStackTrace();
-        } finally {
-            StreamUtils.closeQuietly(fbos);
-            StreamUtils.closeQuietly(out);
-            StreamUtils.closeQuietly(in);
         }
-        return copy;
-
+        return null;
     }
 }
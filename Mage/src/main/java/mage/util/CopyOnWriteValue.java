@@ -0,0 +1,203 @@
+package mage.util;
+
+import java.io.Serializable;
+
+/**
+ * Lazy copy holder for big game state containers (battlefield, stack, effects, etc).
+ * <p>
+ * Share modes:
+ * <ul>
+ * <li>{@link #share()} - independent copy: the source is detached at the copy moment (shared snapshot gets
+ * own copy of the data, so any changes in the source by old refs can't be visible in the copies), but copies
+ * of the copy share the same snapshot and make own copy on first access only;</li>
+ * <li>{@link #shareShortLiving()} - copy without data copy at all: the source keeps its objects and puts an untouched
+ * copy aside before first access after sharing, but the source must not be changed by old refs until
+ * the copy's {@link #release()} (example: playable calculations in the same thread).</li>
+ * </ul>
+ * Result: a copy of a copy costs nothing for containers that are never accessed by the copy
+ * (example: exile or watchers in short AI simulation branches).
+ * <p>
+ * Holder can be shared from multiple threads (e.g. parallel AI workers with same root simulation),
+ * but the value itself must be used by one thread only.
+ * <p>
+ * Warning, any access to the value must be done by {@link #get()} only (it's a write access too),
+ * except read only checks by {@link #peek()}.
+ */
+public class CopyOnWriteValue<T extends Copyable<T>> implements Serializable {
+
+    private volatile T value; // own value (null until first access for shared copies)
+    private volatile Snapshot<T> snapshot; // source: snapshot used by short living copies; copy: snapshot to copy from
+
+    public CopyOnWriteValue(T value) {
+        this.value = value;
+    }
+
+    private CopyOnWriteValue(Snapshot<T> snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Creates independent lazy copy of the holder (real data copy will be done on first access
+     * for copies of the copy)
+     */
+    public synchronized CopyOnWriteValue<T> share() {
+        if (this.value == null) {
+            // copy of a copy - share the same frozen snapshot
+            this.snapshot.addUser();
+            return new CopyOnWriteValue<>(this.snapshot);
+        }
+
+        // source can be changed by any old refs (permanents, abilities, etc), so the copy needs frozen data right now
+        Snapshot<T> frozen = new Snapshot<>(this.value.copy(), false);
+        frozen.addUser();
+        return new CopyOnWriteValue<>(frozen);
+    }
+
+    /**
+     * Creates lazy copy of the holder without any data copy. The source must not be changed until
+     * the copy's release (changes by {@link #get()} are safe, but changes by old refs will be visible in the copy)
+     */
+    public synchronized CopyOnWriteValue<T> shareShortLiving() {
+        if (this.value == null) {
+            this.snapshot.addUser();
+            return new CopyOnWriteValue<>(this.snapshot);
+        }
+
+        if (this.snapshot == null) {
+            this.snapshot = new Snapshot<>(this.value, true);
+        }
+        this.snapshot.addUser();
+        return new CopyOnWriteValue<>(this.snapshot);
+    }
+
+    /**
+     * Returns own value for read or write access (makes copy on demand)
+     */
+    public T get() {
+        T res = this.value;
+        if (res != null && this.snapshot == null) {
+            // fast way: own data without users
+            return res;
+        }
+        return getSynchronized();
+    }
+
+    private synchronized T getSynchronized() {
+        if (this.value == null) {
+            // shared copy - need own data
+            this.value = this.snapshot.takeCopy();
+            this.snapshot = null;
+        } else if (this.snapshot != null) {
+            // source - detach short living users before any possible changes
+            this.snapshot.detach();
+            this.snapshot = null;
+        }
+        return this.value;
+    }
+
+    /**
+     * Read only access to the value without copy (e.g. for versions and counters). Result can be
+     * shared with other holders, so it must not be changed or kept
+     */
+    public T peek() {
+        T res = this.value;
+        if (res != null) {
+            return res;
+        }
+        return peekSynchronized();
+    }
+
+    private synchronized T peekSynchronized() {
+        if (this.value != null) {
+            return this.value;
+        }
+        return this.snapshot.peek();
+    }
+
+    /**
+     * Replace current value (no needs in copy)
+     */
+    public synchronized void set(T value) {
+        if (this.value == null) {
+            this.snapshot.release();
+        } else if (this.snapshot != null) {
+            this.snapshot.detach();
+        }
+        this.value = value;
+        this.snapshot = null;
+    }
+
+    /**
+     * Drop lazy copy without data access (holder can't be used after it),
+     * so the source holder will not keep a snapshot's copy for it
+     */
+    public synchronized void release() {
+        if (this.value == null && this.snapshot != null) {
+            this.snapshot.release();
+            this.snapshot = null;
+        }
+    }
+
+    /**
+     * Debug/test only: is data copy done for that holder
+     */
+    public boolean isMaterialized() {
+        return this.value != null;
+    }
+
+    /**
+     * Frozen data for all lazy copies of the same holder
+     */
+    private static final class Snapshot<T extends Copyable<T>> implements Serializable {
+
+        private T value;
+        private boolean ownedBySource; // value is still the source's object (it can't be taken by users)
+        private int users = 0;
+
+        Snapshot(T value, boolean ownedBySource) {
+            this.value = value;
+            this.ownedBySource = ownedBySource;
+        }
+
+        synchronized void addUser() {
+            this.users++;
+        }
+
+        /**
+         * Source going to change the value, so snapshot must keep own copy for the users
+         */
+        synchronized void detach() {
+            if (!this.ownedBySource) {
+                return;
+            }
+            if (this.users > 0) {
+                this.value = this.value.copy();
+            } else {
+                this.value = null;
+            }
+            this.ownedBySource = false;
+        }
+
+        synchronized T peek() {
+            return this.value;
+        }
+
+        synchronized T takeCopy() {
+            this.users--;
+            if (!this.ownedBySource && this.users == 0) {
+                // last user - can take data without copy
+                T res = this.value;
+                this.value = null;
+                return res;
+            }
+            return this.value.copy();
+        }
+
+        synchronized void release() {
+            this.users--;
+            if (!this.ownedBySource && this.users == 0) {
+                this.value = null;
+            }
+        }
+    }
+}
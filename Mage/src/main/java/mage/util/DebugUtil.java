@@ -13,6 +13,14 @@ public class DebugUtil {
 
     public static boolean NETWORK_SHOW_CLIENT_CALLBACK_MESSAGES_LOG = false; // show all callback messages (server commands)
 
+    // game engine
+    public static boolean GAME_TRIGGERS_INTEGRITY_CHECKS = false; // check triggers list and order on each event processing (slow, enabled in tests)
+    public static boolean GAME_EFFECTS_INCREMENTAL_CHECKS = false; // compare skipped effects apply with full apply (slow, enabled in tests)
+    public static boolean GAME_REPLACEMENT_EFFECTS_INDEX_CHECKS = false; // check that replacement effects search by event type finds all effects (slow, enabled in tests)
+    public static boolean GAME_BATTLEFIELD_INDEX_CHECKS = false; // compare battlefield indexes with full scan on each usage (slow, enabled in tests)
+    public static boolean GAME_STATE_BASED_ACTIONS_INCREMENTAL_CHECKS = false; // compare skipped state based actions check with full check (slow, enabled in tests)
+    public static boolean GAME_RULES_CACHE_CHECKS = false; // compare cached rules text with generated on each usage (slow, enabled in tests)
+
     // cards basic (card panels)
     public static boolean GUI_CARD_DRAW_OUTER_BORDER = false;
     public static boolean GUI_CARD_DRAW_INNER_BORDER = false;
@@ -0,0 +1,29 @@
+package mage.util.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectStreamClass;
+
+/**
+ * Reader for {@link CompactObjectOutputStream}'s data
+ */
+public class CompactObjectInputStream extends ClassLoaderObjectInputStream {
+
+    public CompactObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+        super(in, classLoader);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        int id = readInt();
+        if (id == 0) {
+            return super.readClassDescriptor();
+        }
+        ObjectStreamClass desc = SerializationRegistry.findClassDescriptor(id);
+        if (desc == null) {
+            throw new InvalidClassException("Unknown registered class id " + id + " (client and server must have same version)");
+        }
+        return desc;
+    }
+}
@@ -0,0 +1,26 @@
+package mage.util.serialization;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+
+/**
+ * Java serialization without class descriptors for pre-registered classes (see {@link SerializationRegistry}).
+ * Must be read by {@link CompactObjectInputStream} only.
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+
+    public CompactObjectOutputStream(OutputStream out) throws IOException {
+        super(out);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        int id = SerializationRegistry.findClassId(desc.forClass());
+        writeInt(id);
+        if (id == 0) {
+            super.writeClassDescriptor(desc);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package mage.util.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Supported binary formats for objects serialization
+ */
+public enum SerializationFormat {
+
+    /**
+     * Default java serialization (compatibility mode)
+     */
+    JAVA((byte) 0) {
+        @Override
+        public ObjectOutputStream createOutput(OutputStream out) throws IOException {
+            return new ObjectOutputStream(out);
+        }
+
+        @Override
+        public ObjectInputStream createInput(InputStream in, ClassLoader classLoader) throws IOException {
+            return new ClassLoaderObjectInputStream(in, classLoader);
+        }
+    },
+    /**
+     * Java serialization without class descriptors for pre-registered classes
+     */
+    COMPACT((byte) 1) {
+        @Override
+        public ObjectOutputStream createOutput(OutputStream out) throws IOException {
+            return new CompactObjectOutputStream(out);
+        }
+
+        @Override
+        public ObjectInputStream createInput(InputStream in, ClassLoader classLoader) throws IOException {
+            return new CompactObjectInputStream(in, classLoader);
+        }
+    };
+
+    // enable compatibility mode, add java param like -Dxmage.serialization.java
+    private static final String JAVA_SERIALIZATION_PROPERTY = "xmage.serialization.java";
+    private static final SerializationFormat defaultFormat = System.getProperty(JAVA_SERIALIZATION_PROPERTY) == null ? COMPACT : JAVA;
+
+    private final byte id;
+
+    SerializationFormat(byte id) {
+        this.id = id;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    public abstract ObjectOutputStream createOutput(OutputStream out) throws IOException;
+
+    public abstract ObjectInputStream createInput(InputStream in, ClassLoader classLoader) throws IOException;
+
+    public static SerializationFormat getDefault() {
+        return defaultFormat;
+    }
+
+    public static SerializationFormat findById(byte id) {
+        for (SerializationFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown serialization format " + id);
+    }
+}
@@ -0,0 +1,75 @@
+package mage.util.serialization;
+
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-registered classes for compact serialization: registered class writes as int id instead full class descriptor.
+ * <p>
+ * Class id is a hash of the class name, so it doesn't depend on registration order (client and server can
+ * register different classes, but shared classes must be registered on both sides).
+ */
+public final class SerializationRegistry {
+
+    private static final Map<Class<?>, Integer> classIds = new ConcurrentHashMap<>();
+    private static final Map<Integer, ObjectStreamClass> classDescriptors = new ConcurrentHashMap<>();
+
+    static {
+        // default classes from java and game engine
+        register(
+                ArrayList.class, LinkedList.class, HashMap.class, LinkedHashMap.class, TreeMap.class, EnumMap.class,
+                HashSet.class, LinkedHashSet.class, TreeSet.class, UUID.class, Date.class,
+                Number.class, Integer.class, Long.class, Boolean.class, Enum.class,
+                Object[].class, String[].class, int[].class, byte[].class, boolean[].class,
+                Collections.emptyList().getClass(), Collections.emptyMap().getClass(), Collections.emptySet().getClass()
+        );
+    }
+
+    private SerializationRegistry() {
+    }
+
+    public static synchronized void register(Class<?>... classes) {
+        for (Class<?> clazz : classes) {
+            if (classIds.containsKey(clazz)) {
+                continue;
+            }
+            if (!clazz.isArray() && !clazz.isEnum() && !Serializable.class.isAssignableFrom(clazz)) {
+                throw new IllegalArgumentException("Can't register non serializable class " + clazz.getName());
+            }
+            ObjectStreamClass desc = ObjectStreamClass.lookupAny(clazz);
+            // id 0 reserved for non registered classes
+            int id = clazz.getName().hashCode();
+            if (id == 0) {
+                id = 1;
+            }
+            ObjectStreamClass existing = classDescriptors.get(id);
+            if (existing != null) {
+                throw new IllegalStateException("Serialization class id collision: "
+                        + clazz.getName() + " and " + existing.getName());
+            }
+            classDescriptors.put(id, desc);
+            classIds.put(clazz, id);
+        }
+    }
+
+    /**
+     * @return 0 for non registered class
+     */
+    static int findClassId(Class<?> clazz) {
+        if (clazz == null) {
+            return 0;
+        }
+        Integer id = classIds.get(clazz);
+        return id == null ? 0 : id;
+    }
+
+    static ObjectStreamClass findClassDescriptor(int id) {
+        return classDescriptors.get(id);
+    }
+
+    public static boolean isRegistered(Class<?> clazz) {
+        return classIds.containsKey(clazz);
+    }
+}
@@ -0,0 +1,50 @@
+package mage.util.serialization;
+
+import mage.util.FastByteArrayInputStream;
+import mage.util.FastByteArrayOutputStream;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Objects serialization to/from bytes with selected format. Each thread re-uses own output buffer.
+ */
+public final class SerializationUtil {
+
+    private static final int BUFFER_INITIAL_SIZE = 64 * 1024;
+    private static final int BUFFER_MAX_KEEP_SIZE = 4 * 1024 * 1024; // do not keep too big buffers in memory
+
+    private static final ThreadLocal<FastByteArrayOutputStream> threadBuffer
+            = ThreadLocal.withInitial(() -> new FastByteArrayOutputStream(BUFFER_INITIAL_SIZE));
+
+    private SerializationUtil() {
+    }
+
+    public static byte[] toBytes(Object object, SerializationFormat format, boolean compress) throws IOException {
+        FastByteArrayOutputStream buffer = threadBuffer.get();
+        buffer.reset();
+        try {
+            OutputStream out = compress ? new GZIPOutputStream(buffer) : buffer;
+            try (ObjectOutputStream objectOut = format.createOutput(out)) {
+                objectOut.writeObject(object);
+            }
+            return Arrays.copyOf(buffer.getByteArray(), buffer.getSize());
+        } finally {
+            if (buffer.getByteArray().length > BUFFER_MAX_KEEP_SIZE) {
+                threadBuffer.remove();
+            }
+        }
+    }
+
+    public static Object fromBytes(byte[] data, SerializationFormat format, boolean compressed, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        InputStream in = new FastByteArrayInputStream(data, data.length);
+        if (compressed) {
+            in = new GZIPInputStream(in);
+        }
+        try (ObjectInputStream objectIn = format.createInput(in, classLoader)) {
+            return objectIn.readObject();
+        }
+    }
+}
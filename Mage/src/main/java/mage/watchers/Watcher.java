@@ -19,6 +19,14 @@ public abstract class Watcher implements Serializable {
 
     private static final Logger logger = Logger.getLogger(Watcher.class);
 
+    // watcher copy runs on each game state copy, so all reflection data must be prepared only once per class
+    private static final ClassValue<WatcherCopyPlan> COPY_PLANS = new ClassValue<WatcherCopyPlan>() {
+        @Override
+        protected WatcherCopyPlan computeValue(Class<?> type) {
+            return WatcherCopyPlan.create(type);
+        }
+    };
+
     protected UUID controllerId;
     protected UUID sourceId;
     protected boolean condition;
@@ -79,6 +87,24 @@ public abstract class Watcher implements Serializable {
     public abstract void watch(GameEvent event, Game game);
 
     public <T extends Watcher> T copy() {
+        // fast mode: cached copy plan for the watcher's class
+        WatcherCopyPlan plan = COPY_PLANS.get(getClass());
+        if (plan != null) {
+            try {
+                return (T) plan.copy(this);
+            } catch (Throwable e) {
+                logger.error("Can't copy watcher by copy plan, try reflection: " + getClass().getSimpleName() + " - " + e.getMessage(), e);
+            }
+        }
+
+        // slow mode: reflection
+        return copyByReflection();
+    }
+
+    /**
+     * Old and slow copy code (full reflection on each call), used as fallback and for tests only
+     */
+    public <T extends Watcher> T copyByReflection() {
         try {
             //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
             List<?> constructors = Arrays.asList(this.getClass().getDeclaredConstructors());
@@ -91,29 +117,13 @@ public abstract class Watcher implements Serializable {
 
             // collect all fields
             constructor.setAccessible(true);
-            Object[] args = new Object[constructor.getParameterCount()];
-            for (int index = 0; index < constructor.getParameterTypes().length; index++) {
-                Class<?> parameterType = constructor.getParameterTypes()[index];
-                if (parameterType.isPrimitive()) {
-                    if (parameterType.getSimpleName().equalsIgnoreCase("boolean")) {
-                        args[index] = false;
-                    }
-                } else {
-                    args[index] = null;
-                }
-
-            }
-            T watcher = (T) constructor.newInstance(args);
-            List<Field> allFields = new ArrayList<>();
-            allFields.addAll(Arrays.asList(getClass().getDeclaredFields()));
-            allFields.addAll(Arrays.asList(getClass().getSuperclass().getDeclaredFields()));
+            T watcher = (T) constructor.newInstance(WatcherCopyPlan.makeDefaultArgs(constructor));
+            List<Field> allFields = WatcherCopyPlan.findCopyableFields(getClass());
 
             // copy field's values
             for (Field field : allFields) {
-                if (!Modifier.isStatic(field.getModifiers())) {
-                    field.setAccessible(true);
-                    field.set(watcher, CardUtil.deepCopyObject(field.get(this)));
-                }
+                field.setAccessible(true);
+                field.set(watcher, CardUtil.deepCopyObject(field.get(this)));
             }
             return watcher;
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
@@ -0,0 +1,164 @@
+package mage.watchers;
+
+import mage.MageObjectReference;
+import mage.util.CardUtil;
+import org.apache.log4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Prepared copy code for a watcher's class: constructor and fields access without reflection lookups on each copy.
+ * Must be same as {@link Watcher#copyByReflection()} (new object by the single constructor with default params,
+ * deep copy of all class and parent class fields).
+ */
+final class WatcherCopyPlan {
+
+    private static final Logger logger = Logger.getLogger(WatcherCopyPlan.class);
+
+    private static final Set<Class<?>> IMMUTABLE_FIELD_TYPES = new HashSet<>(Arrays.asList(
+            String.class, UUID.class, MageObjectReference.class, Boolean.class, Integer.class, Long.class,
+            Byte.class, Short.class, Float.class, Double.class
+    ));
+
+    private final MethodHandle constructor; // () -> Watcher
+    private final FieldCopier[] fields;
+
+    private WatcherCopyPlan(MethodHandle constructor, FieldCopier[] fields) {
+        this.constructor = constructor;
+        this.fields = fields;
+    }
+
+    /**
+     * @return null on unsupported watcher (must use reflection copy instead)
+     */
+    static WatcherCopyPlan create(Class<?> watcherClass) {
+        try {
+            Constructor<?>[] constructors = watcherClass.getDeclaredConstructors();
+            if (constructors.length != 1) {
+                return null;
+            }
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Constructor<?> constructor = constructors[0];
+            constructor.setAccessible(true);
+            MethodHandle constructorHandle = MethodHandles.insertArguments(
+                    lookup.unreflectConstructor(constructor), 0, makeDefaultArgs(constructor)
+            ).asType(MethodType.methodType(Watcher.class));
+
+            List<FieldCopier> fields = new ArrayList<>();
+            for (Field field : findCopyableFields(watcherClass)) {
+                field.setAccessible(true);
+                fields.add(FieldCopier.create(lookup, field));
+            }
+            return new WatcherCopyPlan(constructorHandle, fields.toArray(new FieldCopier[0]));
+        } catch (Throwable e) {
+            logger.warn("Can't prepare copy plan for watcher " + watcherClass.getSimpleName() + ", reflection will be used: " + e.getMessage());
+            return null;
+        }
+    }
+
+    Watcher copy(Watcher source) throws Throwable {
+        Watcher watcher = (Watcher) constructor.invokeExact();
+        for (FieldCopier field : fields) {
+            field.copy(source, watcher);
+        }
+        return watcher;
+    }
+
+    static Object[] makeDefaultArgs(Constructor<?> constructor) {
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int index = 0; index < parameterTypes.length; index++) {
+            Class<?> parameterType = parameterTypes[index];
+            if (!parameterType.isPrimitive()) {
+                args[index] = null;
+            } else if (parameterType == boolean.class) {
+                args[index] = false;
+            } else if (parameterType == char.class) {
+                args[index] = (char) 0;
+            } else {
+                args[index] = convertZero(parameterType);
+            }
+        }
+        return args;
+    }
+
+    private static Object convertZero(Class<?> primitiveType) {
+        if (primitiveType == int.class) {
+            return 0;
+        } else if (primitiveType == long.class) {
+            return 0L;
+        } else if (primitiveType == short.class) {
+            return (short) 0;
+        } else if (primitiveType == byte.class) {
+            return (byte) 0;
+        } else if (primitiveType == float.class) {
+            return 0f;
+        } else if (primitiveType == double.class) {
+            return 0d;
+        }
+        throw new IllegalArgumentException("Unknown primitive type " + primitiveType);
+    }
+
+    /**
+     * All non static fields of the watcher and its parent class
+     */
+    static List<Field> findCopyableFields(Class<?> watcherClass) {
+        List<Field> res = new ArrayList<>();
+        List<Field> allFields = new ArrayList<>();
+        allFields.addAll(Arrays.asList(watcherClass.getDeclaredFields()));
+        allFields.addAll(Arrays.asList(watcherClass.getSuperclass().getDeclaredFields()));
+        for (Field field : allFields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                res.add(field);
+            }
+        }
+        return res;
+    }
+
+    private static final class FieldCopier {
+
+        private final MethodHandle getter; // (Watcher) -> Object
+        private final MethodHandle setter; // (Watcher, Object) -> void
+        private final boolean needDeepCopy;
+
+        private FieldCopier(MethodHandle getter, MethodHandle setter, boolean needDeepCopy) {
+            this.getter = getter;
+            this.setter = setter;
+            this.needDeepCopy = needDeepCopy;
+        }
+
+        static FieldCopier create(MethodHandles.Lookup lookup, Field field) throws ReflectiveOperationException {
+            MethodHandle getter = lookup.unreflectGetter(field);
+            MethodHandle setter;
+            try {
+                setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                // final fields support depends on java version, so use reflection setter for it
+                setter = MethodHandles.lookup()
+                        .findVirtual(Field.class, "set", MethodType.methodType(void.class, Object.class, Object.class))
+                        .bindTo(field);
+            }
+            Class<?> type = field.getType();
+            boolean needDeepCopy = !type.isPrimitive() && !type.isEnum() && !IMMUTABLE_FIELD_TYPES.contains(type);
+            return new FieldCopier(
+                    getter.asType(MethodType.methodType(Object.class, Watcher.class)),
+                    setter.asType(MethodType.methodType(void.class, Watcher.class, Object.class)),
+                    needDeepCopy
+            );
+        }
+
+        void copy(Watcher source, Watcher dest) throws Throwable {
+            Object value = (Object) getter.invokeExact(source);
+            if (needDeepCopy) {
+                value = CardUtil.deepCopyObject(value);
+            }
+            setter.invokeExact(dest, value);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package mage.watchers;
 
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.util.Copyable;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
@@ -10,7 +11,7 @@ import java.util.HashMap;
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class Watchers extends HashMap<String, Watcher> {
+public class Watchers extends HashMap<String, Watcher> implements Copyable<Watchers> {
 
     private static final Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
@@ -21,6 +22,7 @@ public class Watchers extends HashMap<String, Watcher> {
         watchers.forEach((key, value) -> this.put(key, value.copy()));
     }
 
+    @Override
     public Watchers copy() {
         return new Watchers(this);
     }